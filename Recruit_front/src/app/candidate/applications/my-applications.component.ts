@@ -1,4 +1,5 @@
-import { Component, inject, OnInit } from '@angular/core';
+import { Component, inject, OnDestroy, OnInit } from '@angular/core';
+import { Subscription } from 'rxjs';
 import { CommonModule } from '@angular/common';
 import { OfferService, Application } from '../../core/services/offer.service';
 
@@ -86,13 +87,48 @@ import { OfferService, Application } from '../../core/services/offer.service';
     .stat-label { color: #64748b; font-size: 0.9rem; }
   `]
 })
-export class MyApplicationsComponent implements OnInit {
+export class MyApplicationsComponent implements OnInit, OnDestroy {
     offerService = inject(OfferService);
     applications: Application[] = [];
     loading = true;
+    private updates?: Subscription;
+    private reconnectTimer?: ReturnType<typeof setTimeout>;
+    private destroyed = false;
 
     ngOnInit() {
         this.loadApplications();
+        this.listenForUpdates();
+    }
+
+    ngOnDestroy() {
+        this.destroyed = true;
+        clearTimeout(this.reconnectTimer);
+        this.updates?.unsubscribe();
+    }
+
+    // Status changes are pushed by the server instead of polled
+    private listenForUpdates() {
+        this.updates = this.offerService.applicationStatusUpdates().subscribe({
+            next: (update) => {
+                const application = this.applications.find(a => a.id === update.applicationId);
+                if (application) {
+                    application.status = update.status;
+                }
+            },
+            complete: () => this.reconnect(),
+            error: () => this.reconnect()
+        });
+    }
+
+    // The stream may have missed changes while it was down: reload, then listen again
+    private reconnect() {
+        if (this.destroyed) {
+            return;
+        }
+        this.reconnectTimer = setTimeout(() => {
+            this.loadApplications();
+            this.listenForUpdates();
+        }, 5000);
     }
 
     loadApplications() {
@@ -1,7 +1,7 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable, catchError, of } from 'rxjs';
-import { AiMatchResult } from '../../shared/models/ai-match.model';
+import { AiMatchResult, RankedCandidate } from '../../shared/models/ai-match.model';
 
 @Injectable({
     providedIn: 'root'
@@ -21,7 +21,7 @@ export class AiService {
                 // Append each skill individually for List<String> binding in Spring
                 requiredSkills.forEach(skill => formData.append('required_skills', skill));
             }
-            obs = this.http.post<AiMatchResult>(`${this.apiUrl}/match-file`, formData);
+            obs = this.http.post<AiMatchResult>(`${this.apiUrl}/match-file/stream`, formData);
         } else {
             const payload = {
                 cvText: cvInput,
@@ -38,4 +38,14 @@ export class AiService {
             })
         );
     }
+
+    // Scores every applicant of an offer server-side, sorted by matchScore
+    rankApplicants(offerId: number): Observable<RankedCandidate[]> {
+        return this.http.post<RankedCandidate[]>(`${this.apiUrl}/rank/${offerId}`, {}).pipe(
+            catchError(error => {
+                console.error('AI Ranking Error:', error);
+                return of([]);
+            })
+        );
+    }
 }
@@ -1,6 +1,6 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpClient, HttpDownloadProgressEvent, HttpEventType, HttpParams } from '@angular/common/http';
+import { EMPTY, Observable, expand, filter, mergeMap, reduce } from 'rxjs';
 
 export interface Offer {
     id: number;
@@ -27,6 +27,12 @@ export interface Application {
     status: string;
 }
 
+export interface ApplicationStatusUpdate {
+    applicationId: number;
+    offerId: number;
+    status: string;
+}
+
 export interface OfferRequest {
     title: string;
     description?: string;
@@ -39,6 +45,17 @@ export interface OfferRequest {
     requiredSkills?: string[];
 }
 
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor?: string; // absent on the last page
+    size: number;
+}
+
+export interface BulkStatusResult {
+    applicationId: number;
+    outcome: 'UPDATED' | 'UNCHANGED' | 'NOT_FOUND' | 'FORBIDDEN';
+}
+
 export interface RecruiterStats {
     totalOffers: number;
     totalApplications: number;
@@ -52,14 +69,23 @@ export interface RecruiterStats {
     providedIn: 'root'
 })
 export class OfferService {
+    // Server-side cap on page size (offers.page.max-size)
+    private static readonly MAX_PAGE_SIZE = 100;
+
     private apiUrl = 'http://localhost:8888/offers';
     private http = inject(HttpClient);
 
     // ======== CANDIDATE METHODS ========
 
-    // Get all active offers
+    // Get one page of active offers, newest first
+    getOffersPage(cursor?: string, size = 20): Observable<CursorPage<Offer>> {
+        return this.http.get<CursorPage<Offer>>(this.apiUrl, { params: this.pageParams(cursor, size) });
+    }
+
+    // Get all active offers as one array, following nextCursor until the last page.
+    // Kept for components that need the whole list; new code should page with getOffersPage.
     getOffers(): Observable<Offer[]> {
-        return this.http.get<Offer[]>(this.apiUrl);
+        return this.allPages(cursor => this.getOffersPage(cursor, OfferService.MAX_PAGE_SIZE));
     }
 
     // Get offer by ID
@@ -69,19 +95,56 @@ export class OfferService {
 
     // Apply to an offer (for candidates)
     applyToOffer(offerId: number): Observable<Application> {
-        return this.http.post<Application>(`${this.apiUrl}/${offerId}/apply`, {});
+        // A retry of this request replays the first response instead of applying twice
+        const headers = { 'Idempotency-Key': crypto.randomUUID() };
+        return this.http.post<Application>(`${this.apiUrl}/${offerId}/apply`, {}, { headers });
+    }
+
+    // Live status changes of my applications (for candidates). Read through HttpClient rather
+    // than EventSource so the JWT interceptor adds the Authorization header.
+    // Completes when the server closes the stream; callers reload and subscribe again.
+    applicationStatusUpdates(): Observable<ApplicationStatusUpdate> {
+        let consumed = 0;
+        return this.http.get(`${this.apiUrl}/my-applications/events`, {
+            observe: 'events',
+            responseType: 'text',
+            reportProgress: true
+        }).pipe(
+            filter((event): event is HttpDownloadProgressEvent => event.type === HttpEventType.DownloadProgress),
+            mergeMap(event => {
+                const text = event.partialText ?? '';
+                const end = text.lastIndexOf('\n\n') + 2;
+                if (end < 2 || end <= consumed) {
+                    return [];
+                }
+                const block = text.substring(consumed, end);
+                consumed = end;
+                return block.split('\n\n')
+                    .filter(frame => frame.includes('event:status'))
+                    .map(frame => frame.split('\n')
+                        .filter(line => line.startsWith('data:'))
+                        .map(line => line.substring(5))
+                        .join('\n'))
+                    .map(data => JSON.parse(data) as ApplicationStatusUpdate);
+            })
+        );
     }
 
     // Get my applications (for candidates)
-    getMyApplications(): Observable<Application[]> {
-        return this.http.get<Application[]>(`${this.apiUrl}/my-applications`);
+    getMyApplications(includeArchived = false): Observable<Application[]> {
+        return this.http.get<Application[]>(`${this.apiUrl}/my-applications`, { params: { includeArchived } });
     }
 
     // ======== RECRUITER METHODS ========
 
-    // Get my offers (for recruiters)
+    // Get one page of my offers (for recruiters)
+    getMyOffersPage(cursor?: string, size = 20): Observable<CursorPage<Offer>> {
+        return this.http.get<CursorPage<Offer>>(`${this.apiUrl}/my-offers`, { params: this.pageParams(cursor, size) });
+    }
+
+    // Get all my offers as one array (for recruiters), following nextCursor like getOffers
     getMyOffers(): Observable<Offer[]> {
-        return this.http.get<Offer[]>(`${this.apiUrl}/my-offers`);
+        return this.allPages(cursor => this.getMyOffersPage(cursor, OfferService.MAX_PAGE_SIZE));
     }
 
     // Create new offer (for recruiters)
@@ -104,14 +167,38 @@ export class OfferService {
         return this.http.get<Application[]>(`${this.apiUrl}/${offerId}/applications`);
     }
 
+    // Download the applicants of an offer (for recruiters)
+    exportApplications(offerId: number, format: 'csv' | 'ndjson' = 'csv'): Observable<Blob> {
+        return this.http.get(`${this.apiUrl}/${offerId}/applications/export`, { params: { format }, responseType: 'blob' });
+    }
+
     // Update application status (for recruiters)
     updateApplicationStatus(applicationId: number, status: 'ACCEPTED' | 'REJECTED'): Observable<Application> {
         return this.http.put<Application>(`${this.apiUrl}/applications/${applicationId}/status`, { status });
     }
 
+    // Update many application statuses at once (for recruiters)
+    updateApplicationStatuses(applicationIds: number[], status: 'ACCEPTED' | 'REJECTED'): Observable<BulkStatusResult[]> {
+        return this.http.put<BulkStatusResult[]>(`${this.apiUrl}/applications/status`, { applicationIds, status });
+    }
+
     // Get recruiter stats (for dashboard)
     getRecruiterStats(): Observable<RecruiterStats> {
         return this.http.get<RecruiterStats>(`${this.apiUrl}/recruiter/stats`);
     }
-}
 
+    private allPages(fetchPage: (cursor?: string) => Observable<CursorPage<Offer>>): Observable<Offer[]> {
+        return fetchPage().pipe(
+            expand(page => page.nextCursor ? fetchPage(page.nextCursor) : EMPTY),
+            reduce((offers, page) => offers.concat(page.items), [] as Offer[])
+        );
+    }
+
+    private pageParams(cursor: string | undefined, size: number): HttpParams {
+        let params = new HttpParams().set('size', size);
+        if (cursor) {
+            params = params.set('cursor', cursor);
+        }
+        return params;
+    }
+}
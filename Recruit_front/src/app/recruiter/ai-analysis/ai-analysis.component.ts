@@ -94,6 +94,24 @@ export class AiAnalysisComponent implements OnInit {
         });
     }
 
+    analyzeAll() {
+        if (!this.offer) return;
+
+        this.analyzedCandidates.forEach(item => item.analyzing = true);
+
+        // One server-side call scores every applicant instead of two round trips per candidate
+        this.aiService.rankApplicants(this.offer.id).subscribe(ranked => {
+            ranked.forEach(r => {
+                const item = this.analyzedCandidates.find(c => c.application.id === r.applicationId);
+                if (item && r.result) {
+                    item.aiResult = r.result;
+                }
+            });
+            this.analyzedCandidates.forEach(item => item.analyzing = false);
+            this.sortCandidates();
+        });
+    }
+
     acceptCandidate(appId: number) {
         this.offerService.updateApplicationStatus(appId, 'ACCEPTED').subscribe(() => {
             this.updateLocalStatus(appId, 'ACCEPTED');
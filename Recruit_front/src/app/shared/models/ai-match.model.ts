@@ -6,3 +6,13 @@ export interface AiMatchResult {
     matchedSkills?: string[];
     missingSkills?: string[];
 }
+
+export interface RankedCandidate {
+    applicationId: number;
+    candidateEmail: string;
+    firstName?: string;
+    lastName?: string;
+    status: string;
+    result?: AiMatchResult;
+    error?: string;
+}
@@ -0,0 +1,174 @@
+package org.keah.aiservice.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.dto.MatchRequest;
+import org.keah.aiservice.dto.MatchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects match requests for a short window (or until the batch is full) and sends them to
+ * Python's {@code /ai/match/batch} as one JSON array, completing each caller's future from the
+ * positionally matching element of the response array.
+ * If the backend has no batch endpoint (404), batching switches itself off and calls go one by one.
+ * Once stopped, or if the collector thread dies, pending and new submissions fail fast instead of hanging.
+ */
+@Component
+@Slf4j
+public class MatchBatcher {
+
+    private record Pending(MatchRequest request, CompletableFuture<MatchResponse> result) {}
+
+    private final RestTemplate restTemplate;
+    private final String pythonBaseUrl;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxSize;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean batchEndpointAvailable = true;
+    private volatile boolean running;
+    private Thread collector;
+
+    public MatchBatcher(
+            RestTemplate restTemplate,
+            @Value("${ai.python.base-url:http://localhost:8000}") String pythonBaseUrl,
+            @Value("${ai.python.batch.enabled:false}") boolean enabled,
+            @Value("${ai.python.batch.window:5ms}") Duration window,
+            @Value("${ai.python.batch.max-size:32}") int maxSize) {
+        this.restTemplate = restTemplate;
+        this.pythonBaseUrl = pythonBaseUrl;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    public boolean isActive() {
+        return enabled && running && batchEndpointAvailable;
+    }
+
+    public CompletableFuture<MatchResponse> submit(MatchRequest request) {
+        CompletableFuture<MatchResponse> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("Match batcher is not running"));
+            return result;
+        }
+        Pending pending = new Pending(request, result);
+        queue.add(pending);
+        // stop() may have drained the queue between the check and the add; whoever removes the entry fails it
+        if (!running && queue.remove(pending)) {
+            result.completeExceptionally(new IllegalStateException("Match batcher is not running"));
+        }
+        return result;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        collector = Thread.ofPlatform().name("match-batcher").daemon().start(this::collectLoop);
+        log.info("Python match micro-batching enabled (window {} ms, max {} items)", window.toMillis(), maxSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (collector != null) {
+            collector.interrupt();
+        }
+        dispatcher.shutdown();
+        failQueued(new IllegalStateException("AI service shutting down"));
+    }
+
+    private void collectLoop() {
+        List<Pending> batch = List.of();
+        try {
+            while (running) {
+                batch = new ArrayList<>(maxSize);
+                batch.add(queue.take());
+
+                // The window starts with the first request, so an idle service adds no latency
+                long deadline = System.nanoTime() + window.toNanos();
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                List<Pending> collected = batch;
+                dispatcher.execute(() -> dispatch(collected));
+                batch = List.of();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Match batcher collector stopped; batching is disabled until restart", e);
+        } finally {
+            running = false;
+            IllegalStateException stopped = new IllegalStateException("Match batcher is not running");
+            batch.forEach(p -> p.result().completeExceptionally(stopped));
+            failQueued(stopped);
+        }
+    }
+
+    private void failQueued(RuntimeException cause) {
+        List<Pending> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(p -> p.result().completeExceptionally(cause));
+    }
+
+    void dispatch(List<Pending> batch) {
+        if (!batchEndpointAvailable) {
+            batch.forEach(this::sendSingle);
+            return;
+        }
+
+        List<MatchRequest> requests = batch.stream().map(Pending::request).toList();
+        try {
+            MatchResponse[] responses = restTemplate.postForObject(
+                    pythonBaseUrl + "/ai/match/batch", requests, MatchResponse[].class);
+            if (responses == null || responses.length != batch.size()) {
+                throw new IllegalStateException("Batch response size mismatch: sent " + batch.size()
+                        + ", received " + (responses == null ? 0 : responses.length));
+            }
+            for (int i = 0; i < responses.length; i++) {
+                batch.get(i).result().complete(responses[i]);
+            }
+        } catch (HttpClientErrorException.NotFound e) {
+            log.warn("Python backend has no /ai/match/batch endpoint; falling back to single requests");
+            batchEndpointAvailable = false;
+            batch.forEach(this::sendSingle);
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.result().completeExceptionally(e));
+        }
+    }
+
+    private void sendSingle(Pending pending) {
+        try {
+            pending.result().complete(
+                    restTemplate.postForObject(pythonBaseUrl + "/ai/match", pending.request(), MatchResponse.class));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.keah.aiservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.scoring.CorpusStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed cache of CV extraction results keyed by the SHA-256 of the uploaded PDF bytes.
+ * Entries are plain JSON files, so they survive restarts and can be wiped by deleting the directory.
+ * Every extraction written here, and every entry found at startup, is added to the BM25 corpus.
+ */
+@Component
+@Slf4j
+public class ExtractionCache {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final CorpusStatistics corpus;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ExtractionCache(
+            @Value("${ai.cache.extract.dir:cache/extract}") String directory,
+            ObjectMapper objectMapper,
+            CorpusStatistics corpus,
+            MeterRegistry meterRegistry) throws IOException {
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.objectMapper = objectMapper;
+        this.corpus = corpus;
+        this.hits = Counter.builder("ai.extract.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("ai.extract.cache").tag("result", "miss").register(meterRegistry);
+        Files.createDirectories(this.directory);
+        log.info("Extraction cache directory: {}", this.directory);
+    }
+
+    public ExtractResponse get(String contentHash) {
+        Path entry = entryPath(contentHash);
+        if (Files.exists(entry)) {
+            try {
+                ExtractResponse cached = objectMapper.readValue(entry.toFile(), ExtractResponse.class);
+                hits.increment();
+                return cached;
+            } catch (IOException e) {
+                // A truncated or stale entry is just a miss; drop it so it gets rewritten
+                log.warn("Discarding unreadable extraction cache entry {}: {}", entry, e.getMessage());
+                deleteQuietly(entry);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String contentHash, ExtractResponse response) {
+        if (response == null || response.cvText() == null) {
+            return;
+        }
+        Path entry = entryPath(contentHash);
+        Path temp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            // Write then rename, so concurrent readers never see a half-written file
+            temp = Files.createTempFile(entry.getParent(), contentHash, ".tmp");
+            objectMapper.writeValue(temp.toFile(), response);
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            corpus.observe(response.cvText());
+        } catch (IOException e) {
+            log.warn("Could not write extraction cache entry {}: {}", entry, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedCorpus() {
+        // Previously extracted CVs are the best available picture of the corpus after a restart
+        try (Stream<Path> entries = Files.walk(directory, 2)) {
+            entries.filter(path -> path.toString().endsWith(".json")).forEach(entry -> {
+                try {
+                    corpus.observe(objectMapper.readValue(entry.toFile(), ExtractResponse.class).cvText());
+                } catch (IOException e) {
+                    log.debug("Skipping unreadable extraction cache entry {}", entry);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Could not walk extraction cache {}: {}", directory, e.getMessage());
+        }
+        log.info("BM25 corpus seeded with {} documents", corpus.documentCount());
+    }
+
+    private Path entryPath(String contentHash) {
+        // Two-character fan-out keeps directories small once thousands of CVs are cached
+        return directory.resolve(contentHash.substring(0, 2)).resolve(contentHash + ".json");
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Best effort
+        }
+    }
+}
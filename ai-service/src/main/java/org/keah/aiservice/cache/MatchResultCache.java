@@ -0,0 +1,85 @@
+package org.keah.aiservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.keah.aiservice.dto.MatchRequest;
+import org.keah.aiservice.dto.MatchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded in-process cache of Python match results, keyed by the content of the request.
+ * Hit/miss/eviction counts are published to Micrometer under the cache name {@code ai.match}.
+ */
+@Component
+public class MatchResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, MatchResponse> cache;
+
+    public MatchResultCache(
+            @Value("${ai.cache.match.max-size:10000}") long maxSize,
+            @Value("${ai.cache.match.ttl:1h}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.match");
+    }
+
+    public MatchResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, MatchResponse response) {
+        if (response != null) {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * SHA-256 over the whitespace-normalized CV text, job description and sorted required skills,
+     * so the same CV scored against the same offer always lands on the same entry.
+     */
+    public static String keyOf(MatchRequest request) {
+        MessageDigest digest = ContentHash.sha256();
+        update(digest, normalize(request.getCvText()));
+        update(digest, normalize(request.getJobDescription()));
+        update(digest, String.join("\n", normalizeSkills(request.getRequiredSkills())));
+        return ContentHash.hex(digest);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : WHITESPACE.matcher(text.strip()).replaceAll(" ");
+    }
+
+    private static List<String> normalizeSkills(List<String> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        return skills.stream()
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(skill -> !skill.isEmpty())
+                .sorted()
+                .toList();
+    }
+
+    private static void update(MessageDigest digest, String part) {
+        digest.update(part.getBytes(StandardCharsets.UTF_8));
+        // Separator so that ("ab", "c") and ("a", "bc") never collide
+        digest.update((byte) 0);
+    }
+}
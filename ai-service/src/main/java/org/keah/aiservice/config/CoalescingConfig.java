@@ -0,0 +1,34 @@
+package org.keah.aiservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.keah.aiservice.cache.SingleFlight;
+import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.dto.MatchResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    public SingleFlight<String, MatchResponse> matchSingleFlight(MeterRegistry meterRegistry) {
+        return singleFlight("ai.match", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, ExtractResponse> extractSingleFlight(MeterRegistry meterRegistry) {
+        return singleFlight("ai.extract", meterRegistry);
+    }
+
+    private <V> SingleFlight<String, V> singleFlight(String name, MeterRegistry meterRegistry) {
+        Counter coalesced = Counter.builder(name + ".coalesced")
+                .description("Calls that joined an identical in-flight request instead of calling Python")
+                .register(meterRegistry);
+        SingleFlight<String, V> singleFlight = new SingleFlight<>(coalesced);
+        Gauge.builder(name + ".in-flight", singleFlight, SingleFlight::inFlightCount)
+                .register(meterRegistry);
+        return singleFlight;
+    }
+}
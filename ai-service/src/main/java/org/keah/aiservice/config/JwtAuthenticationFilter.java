@@ -17,18 +17,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Service-to-service extraction endpoints (candidate-service calls them without a user token).
+    // Extraction jobs under /ai/extract/jobs are per user and go through the normal JWT check.
+    private static final Set<String> UNAUTHENTICATED_PATHS = Set.of("/ai/extract", "/ai/extract/stream");
+
     private final JwtUtil jwtUtil;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         // Skip JWT filter for service-to-service extraction endpoint
-        return "/ai/extract".equals(path);
+        return UNAUTHENTICATED_PATHS.contains(path);
     }
 
     @Override
@@ -39,7 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         // Skip authentication for service-to-service extraction endpoint
-        if ("/ai/extract".equals(request.getRequestURI())) {
+        if (UNAUTHENTICATED_PATHS.contains(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -3,16 +3,20 @@ package org.keah.aiservice.config;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Date;
 
 @Component
 public class JwtUtil {
 
+    private static final long SERVICE_TOKEN_TTL_MS = 5 * 60 * 1000;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -20,6 +24,21 @@ public class JwtUtil {
         return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Short-lived token for ai-service's own calls to peer services (role SERVICE), signed with the
+     * shared secret; user requests keep forwarding the caller's token instead.
+     */
+    public String generateServiceToken() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject("ai-service")
+                .claim("role", "SERVICE")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + SERVICE_TOKEN_TTL_MS))
+                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public boolean isValid(String token) {
         try {
             extractAllClaims(token);
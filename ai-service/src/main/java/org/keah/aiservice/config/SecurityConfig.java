@@ -1,5 +1,6 @@
 package org.keah.aiservice.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,10 +22,17 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE responses end with an async dispatch that carries no token;
+                        // the request itself was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // Allow OPTIONS requests for CORS preflight (handled by Gateway, but allowed here/passed through)
                         .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
                         // Allow service-to-service calls for CV extraction
-                        .requestMatchers("/ai/extract").permitAll()
+                        .requestMatchers("/ai/extract", "/ai/extract/stream").permitAll()
+                        // Extraction jobs belong to whoever submitted them, candidate or recruiter
+                        .requestMatchers("/ai/extract/jobs/**").authenticated()
+                        // Actuator is not routed by the gateway; exposed for local metrics scraping
+                        .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/ai/**").hasRole("RECRUITER")
                         .anyRequest().authenticated()
                 )
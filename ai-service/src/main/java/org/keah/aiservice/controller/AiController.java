@@ -1,11 +1,25 @@
 package org.keah.aiservice.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.dto.ExtractionJobStatus;
+import org.keah.aiservice.dto.MatchMode;
 import org.keah.aiservice.dto.MatchRequest;
 import org.keah.aiservice.dto.MatchResponse;
+import org.keah.aiservice.dto.RankedCandidate;
 import org.keah.aiservice.service.AiService;
+import org.keah.aiservice.service.ExtractionJobService;
+import org.keah.aiservice.streaming.StreamingProxyService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/ai")
@@ -13,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 public class AiController {
 
     private final AiService aiService;
+    private final StreamingProxyService streamingProxyService;
+    private final ExtractionJobService extractionJobService;
 
     @PostMapping("/match")
     public ResponseEntity<MatchResponse> matchCv(@RequestBody MatchRequest request) {
@@ -38,4 +54,53 @@ public class AiController {
     ) {
         return ResponseEntity.ok(aiService.extractCv(file));
     }
+
+    // Same contracts as /match-file and /extract, but the upload is piped to Python while it is
+    // still arriving instead of being parsed into a MultipartFile first
+    @PostMapping(value = "/match-file/stream", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MatchResponse> matchCvFileStreaming(HttpServletRequest request) {
+        return ResponseEntity.ok(streamingProxyService.matchCvFile(request));
+    }
+
+    @PostMapping(value = "/extract/stream", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ExtractResponse> extractCvStreaming(HttpServletRequest request) {
+        return ResponseEntity.ok(streamingProxyService.extractCv(request));
+    }
+
+    // Asynchronous extraction: returns a job id immediately, the result is polled or streamed over SSE
+    @PostMapping(value = "/extract/jobs", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ExtractionJobStatus> submitExtractionJob(@RequestParam("file") MultipartFile file) {
+        ExtractionJobStatus job = extractionJobService.submit(file, getConnectedEmail());
+        return ResponseEntity.accepted()
+                .location(URI.create("/ai/extract/jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/extract/jobs/{jobId}")
+    public ResponseEntity<ExtractionJobStatus> getExtractionJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(extractionJobService.status(jobId, getConnectedEmail()));
+    }
+
+    @GetMapping(value = "/extract/jobs/{jobId}/events", produces = org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExtractionJob(@PathVariable String jobId) {
+        return extractionJobService.subscribe(jobId, getConnectedEmail());
+    }
+
+    @PostMapping("/rank/{offerId}")
+    public ResponseEntity<List<RankedCandidate>> rankApplicants(
+        @PathVariable Long offerId,
+        @RequestParam(value = "mode", required = false) MatchMode mode,
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization
+    ) {
+        return ResponseEntity.ok(aiService.rankApplicants(offerId, mode, authorization));
+    }
+
+    // =============================
+    // 🔧 HELPER: Get connected user email
+    // =============================
+    private String getConnectedEmail() {
+        return SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getName();
+    }
 }
@@ -0,0 +1,13 @@
+package org.keah.aiservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Subset of offer-service's ApplicationResponse identifying one applicant.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApplicantSummary(
+    Long id,
+    String candidateEmail,
+    String status
+) {}
@@ -0,0 +1,12 @@
+package org.keah.aiservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One row of candidate-service's GET /candidates/internal/cv-texts.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CandidateCvText(
+    Long id,
+    String cvText
+) {}
@@ -0,0 +1,14 @@
+package org.keah.aiservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Subset of candidate-service's Candidate carrying the extracted CV text.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CandidateProfile(
+    String email,
+    String firstName,
+    String lastName,
+    String cvText
+) {}
@@ -0,0 +1,22 @@
+package org.keah.aiservice.dto;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of an asynchronous CV extraction job.
+ * {@code result} is set once the job is DONE, {@code error} once it has FAILED.
+ */
+public record ExtractionJobStatus(
+    String jobId,
+    State status,
+    Instant submittedAt,
+    Instant completedAt,
+    ExtractResponse result,
+    String error
+) {
+    public enum State { QUEUED, RUNNING, DONE, FAILED }
+
+    public boolean finished() {
+        return status == State.DONE || status == State.FAILED;
+    }
+}
@@ -0,0 +1,10 @@
+package org.keah.aiservice.dto;
+
+/**
+ * How a CV/job pair is scored: by the Python model, or by the in-process BM25 engine
+ * (cheap enough for high-QPS first-pass screening).
+ */
+public enum MatchMode {
+    PYTHON,
+    LOCAL
+}
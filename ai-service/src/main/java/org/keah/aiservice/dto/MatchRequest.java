@@ -21,4 +21,12 @@ public class MatchRequest {
     @JsonProperty("required_skills")
     @JsonAlias("requiredSkills")
     private java.util.List<String> requiredSkills;
+
+    // Only read from callers; never forwarded to the Python backend
+    @JsonProperty(value = "mode", access = JsonProperty.Access.WRITE_ONLY)
+    private MatchMode mode;
+
+    public MatchRequest(String cvText, String jobDescription, java.util.List<String> requiredSkills) {
+        this(cvText, jobDescription, requiredSkills, null);
+    }
 }
@@ -0,0 +1,32 @@
+package org.keah.aiservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * Subset of offer-service's OfferResponse needed to score applicants.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OfferDetails(
+    Long id,
+    String title,
+    String description,
+    List<String> requiredSkills
+) {
+    /**
+     * The offer as one document for the BM25 corpus.
+     */
+    public String corpusText() {
+        StringBuilder text = new StringBuilder();
+        if (title != null) {
+            text.append(title).append(' ');
+        }
+        if (description != null) {
+            text.append(description).append(' ');
+        }
+        if (requiredSkills != null) {
+            text.append(String.join(" ", requiredSkills));
+        }
+        return text.toString();
+    }
+}
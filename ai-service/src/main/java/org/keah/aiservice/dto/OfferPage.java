@@ -0,0 +1,13 @@
+package org.keah.aiservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * One page of offer-service's GET /offers listing; {@code nextCursor} is absent on the last page.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OfferPage(
+    List<OfferDetails> items,
+    String nextCursor
+) {}
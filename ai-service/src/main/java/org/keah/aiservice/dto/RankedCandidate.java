@@ -0,0 +1,19 @@
+package org.keah.aiservice.dto;
+
+/**
+ * One applicant of an offer with its AI match result.
+ * {@code result} is null and {@code error} is set when the applicant could not be scored.
+ */
+public record RankedCandidate(
+    Long applicationId,
+    String candidateEmail,
+    String firstName,
+    String lastName,
+    String status,
+    MatchResponse result,
+    String error
+) {
+    public Double matchScore() {
+        return result != null ? result.matchScore() : null;
+    }
+}
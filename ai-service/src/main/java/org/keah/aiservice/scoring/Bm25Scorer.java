@@ -0,0 +1,60 @@
+package org.keah.aiservice.scoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pure-Java BM25 relevance of a CV against a job description and its required skills.
+ * The job text is the query and the CV the document; required-skill terms weigh double.
+ * Scoring only reads the corpus statistics; documents are added when they are ingested.
+ */
+@Component
+@RequiredArgsConstructor
+public class Bm25Scorer {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SKILL_WEIGHT = 2;
+
+    private final CorpusStatistics corpus;
+
+    /**
+     * Returns a score in [0, 100] on the same scale as the Python model. 100 means the CV mentions every
+     * query term at least once at average document length; scores are comparable across CVs for one offer.
+     */
+    public double score(String cvText, String jobDescription, List<String> requiredSkills) {
+        Map<String, Integer> document = Tokenizer.termFrequencies(cvText);
+        Map<String, Integer> jobTerms = Tokenizer.termFrequencies(jobDescription);
+
+        Map<String, Integer> query = new HashMap<>();
+        jobTerms.keySet().forEach(term -> query.merge(term, 1, Math::max));
+        if (requiredSkills != null) {
+            for (String skill : requiredSkills) {
+                Tokenizer.termFrequencies(skill).keySet().forEach(term -> query.merge(term, SKILL_WEIGHT, Math::max));
+            }
+        }
+        if (query.isEmpty() || document.isEmpty()) {
+            return 0;
+        }
+
+        int documentLength = document.values().stream().mapToInt(Integer::intValue).sum();
+        // With nothing observed yet the CV is its own reference length, so scores keep their 0-100 meaning
+        double averageLength = corpus.documentCount() == 0 ? documentLength : corpus.averageLength();
+        double lengthNorm = K1 * (1 - B + B * documentLength / averageLength);
+
+        double score = 0;
+        double ideal = 0;
+        for (Map.Entry<String, Integer> term : query.entrySet()) {
+            double weightedIdf = corpus.idf(term.getKey()) * term.getValue();
+            int tf = document.getOrDefault(term.getKey(), 0);
+            score += weightedIdf * tf * (K1 + 1) / (tf + lengthNorm);
+            // A single occurrence at average length is treated as full coverage of the term
+            ideal += weightedIdf;
+        }
+        return Math.round(Math.min(1.0, score / ideal) * 1000) / 10.0;
+    }
+}
@@ -0,0 +1,115 @@
+package org.keah.aiservice.scoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.config.JwtUtil;
+import org.keah.aiservice.dto.CandidateCvText;
+import org.keah.aiservice.dto.OfferDetails;
+import org.keah.aiservice.dto.OfferPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Loads the offers and CVs already stored by offer-service and candidate-service into the BM25
+ * corpus after startup. Runs on a background thread with a service token; if a peer is down the
+ * corpus simply starts with what the extraction cache provides and grows from new ingestions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CorpusSeeder {
+
+    private final CorpusStatistics corpus;
+    private final RestTemplate restTemplate;
+    private final JwtUtil jwtUtil;
+
+    @Value("${offer.service.url:http://localhost:8086/offers}")
+    private String offerServiceUrl;
+
+    @Value("${candidate.service.url:http://localhost:8085/candidates}")
+    private String candidateServiceUrl;
+
+    @Value("${ai.scoring.corpus.seed-from-services:true}")
+    private boolean enabled;
+
+    @Value("${ai.scoring.corpus.seed-page-size:100}")
+    private int pageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        if (enabled) {
+            Thread.ofVirtual().name("corpus-seeder").start(this::seed);
+        }
+    }
+
+    void seed() {
+        long offers = seedOffers();
+        long cvs = seedCvs();
+        log.info("BM25 corpus seeded from peer services ({} offers, {} CVs read); {} documents in total",
+                offers, cvs, corpus.documentCount());
+    }
+
+    private long seedOffers() {
+        long read = 0;
+        try {
+            String cursor = null;
+            do {
+                UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(offerServiceUrl).queryParam("size", pageSize);
+                if (cursor != null) {
+                    uri.queryParam("cursor", cursor);
+                }
+                OfferPage page = restTemplate.exchange(uri.build().toUri(), HttpMethod.GET, serviceAuth(), OfferPage.class)
+                        .getBody();
+                if (page == null || page.items() == null) {
+                    break;
+                }
+                for (OfferDetails offer : page.items()) {
+                    corpus.observe(offer.corpusText());
+                }
+                read += page.items().size();
+                cursor = page.nextCursor();
+            } while (cursor != null);
+        } catch (RestClientException e) {
+            log.warn("Could not seed BM25 corpus from offer-service after {} offers: {}", read, e.getMessage());
+        }
+        return read;
+    }
+
+    private long seedCvs() {
+        long read = 0;
+        try {
+            long afterId = 0;
+            while (true) {
+                CandidateCvText[] page = restTemplate.exchange(
+                        candidateServiceUrl + "/internal/cv-texts?afterId={afterId}&size={size}", HttpMethod.GET,
+                        serviceAuth(), CandidateCvText[].class, afterId, pageSize).getBody();
+                if (page == null || page.length == 0) {
+                    break;
+                }
+                for (CandidateCvText cv : page) {
+                    corpus.observe(cv.cvText());
+                }
+                read += page.length;
+                afterId = page[page.length - 1].id();
+            }
+        } catch (RestClientException e) {
+            log.warn("Could not seed BM25 corpus from candidate-service after {} CVs: {}", read, e.getMessage());
+        }
+        return read;
+    }
+
+    // A fresh token per page, so a long seed never outlives one
+    private HttpEntity<Void> serviceAuth() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtil.generateServiceToken());
+        return new HttpEntity<>(headers);
+    }
+}
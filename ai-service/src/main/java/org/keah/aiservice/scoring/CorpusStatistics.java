@@ -0,0 +1,75 @@
+package org.keah.aiservice.scoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.keah.aiservice.cache.ContentHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Document frequencies and average length over every distinct CV and offer ai-service knows of.
+ * Documents come in at ingestion time only, never while scoring: stored offers and CVs seeded from
+ * offer-service and candidate-service at startup ({@link CorpusSeeder}), cached extractions, new
+ * extractions on both the buffered and streaming paths, and offers as they are ranked.
+ * Each document is counted once, keyed by the SHA-256 of its text.
+ */
+@Component
+public class CorpusStatistics {
+
+    private final Map<String, LongAdder> documentFrequency = new ConcurrentHashMap<>();
+    private final LongAdder documentCount = new LongAdder();
+    private final LongAdder totalLength = new LongAdder();
+    private final Cache<String, Boolean> seenDocuments;
+
+    public CorpusStatistics(@Value("${ai.scoring.corpus.max-tracked-documents:200000}") long maxTrackedDocuments) {
+        this.seenDocuments = Caffeine.newBuilder().maximumSize(maxTrackedDocuments).build();
+    }
+
+    /**
+     * Adds a document to the corpus unless the same text was already counted.
+     */
+    public void observe(String text) {
+        Map<String, Integer> termFrequencies = Tokenizer.termFrequencies(text);
+        if (termFrequencies.isEmpty()) {
+            return;
+        }
+        MessageDigest digest = ContentHash.sha256();
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        if (seenDocuments.asMap().putIfAbsent(ContentHash.hex(digest), Boolean.TRUE) != null) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> term : termFrequencies.entrySet()) {
+            documentFrequency.computeIfAbsent(term.getKey(), k -> new LongAdder()).increment();
+            length += term.getValue();
+        }
+        documentCount.increment();
+        totalLength.add(length);
+    }
+
+    /**
+     * BM25 inverse document frequency, always positive even for terms present in every document.
+     */
+    public double idf(String term) {
+        long n = documentCount.sum();
+        LongAdder df = documentFrequency.get(term);
+        long frequency = df != null ? df.sum() : 0;
+        return Math.log(1 + (n - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    public double averageLength() {
+        long n = documentCount.sum();
+        return n == 0 ? 0 : (double) totalLength.sum() / n;
+    }
+
+    public long documentCount() {
+        return documentCount.sum();
+    }
+}
@@ -0,0 +1,55 @@
+package org.keah.aiservice.scoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-cased terms for BM25. Keeps '+', '#' and inner dots so that
+ * C++, C# and Node.js survive as terms, and drops common English/French stop words.
+ */
+final class Tokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with", "you", "your",
+            "au", "aux", "avec", "ce", "ces", "dans", "de", "des", "du", "elle", "en", "et", "il", "ils", "la",
+            "le", "les", "leur", "mais", "nous", "ou", "par", "pas", "pour", "qui", "que", "sa", "se", "ses",
+            "son", "sur", "un", "une", "vous");
+
+    private Tokenizer() {
+    }
+
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null) {
+            return frequencies;
+        }
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#' || (c == '.' && !term.isEmpty())) {
+                term.append(Character.toLowerCase(c));
+            } else if (!term.isEmpty()) {
+                add(frequencies, term);
+                term.setLength(0);
+            }
+        }
+        return frequencies;
+    }
+
+    private static void add(Map<String, Integer> frequencies, StringBuilder term) {
+        // "java." at the end of a sentence is still "java"
+        int end = term.length();
+        while (end > 0 && term.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0) {
+            return;
+        }
+        String value = term.substring(0, end);
+        if (!STOP_WORDS.contains(value)) {
+            frequencies.merge(value, 1, Integer::sum);
+        }
+    }
+}
@@ -1,28 +1,129 @@
 package org.keah.aiservice.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.batch.MatchBatcher;
+import org.keah.aiservice.cache.ContentHash;
+import org.keah.aiservice.cache.ExtractionCache;
+import org.keah.aiservice.cache.MatchResultCache;
+import org.keah.aiservice.cache.SingleFlight;
+import org.keah.aiservice.dto.ApplicantSummary;
+import org.keah.aiservice.dto.CandidateProfile;
 import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.dto.MatchMode;
 import org.keah.aiservice.dto.MatchRequest;
 import org.keah.aiservice.dto.MatchResponse;
+import org.keah.aiservice.dto.OfferDetails;
+import org.keah.aiservice.dto.RankedCandidate;
+import org.keah.aiservice.scoring.Bm25Scorer;
+import org.keah.aiservice.scoring.CorpusStatistics;
+import org.keah.aiservice.skills.SkillMatcher;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AiService {
 
     private final RestTemplate restTemplate;
+    private final MatchResultCache matchResultCache;
+    private final ExtractionCache extractionCache;
+    private final SingleFlight<String, MatchResponse> matchSingleFlight;
+    private final SingleFlight<String, ExtractResponse> extractSingleFlight;
+    private final SkillMatcher skillMatcher;
+    private final Bm25Scorer bm25Scorer;
+    private final CorpusStatistics corpus;
+    private final MatchBatcher matchBatcher;
 
     @Value("${ai.python.base-url:http://localhost:8000}")
     private String pythonBaseUrl;
 
+    @Value("${offer.service.url:http://localhost:8086/offers}")
+    private String offerServiceUrl;
+
+    @Value("${candidate.service.url:http://localhost:8085/candidates}")
+    private String candidateServiceUrl;
+
+    @Value("${ai.match.default-mode:PYTHON}")
+    private MatchMode defaultMatchMode;
+
+    @Value("${ai.skills.local-matching:true}")
+    private boolean localSkillMatching;
+
+    @Value("${ai.rank.max-concurrency:16}")
+    private int rankMaxConcurrency;
+
+    @Value("${ai.python.batch.await-timeout:15s}")
+    private java.time.Duration batchAwaitTimeout;
+
     public MatchResponse matchCvToJob(MatchRequest request) {
+        MatchMode mode = request.getMode() != null ? request.getMode() : defaultMatchMode;
+        if (mode == MatchMode.LOCAL) {
+            // Cheaper than a cache lookup, so it bypasses cache and coalescing entirely
+            return matchLocally(request);
+        }
+
+        String cacheKey = MatchResultCache.keyOf(request);
+        MatchResponse cached = matchResultCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Identical requests arriving while this one is in flight wait for its result
+        return matchSingleFlight.execute(cacheKey, () -> {
+            MatchResponse response = withLocalSkillMatch(requestMatch(request), request);
+            matchResultCache.put(cacheKey, response);
+            return response;
+        });
+    }
+
+    private MatchResponse matchLocally(MatchRequest request) {
+        double score = bm25Scorer.score(request.getCvText(), request.getJobDescription(), request.getRequiredSkills());
+        SkillMatcher.SkillMatch skills = skillMatcher.match(request.getCvText(), request.getRequiredSkills());
+        return new MatchResponse(skills.matchedSkills(), score, null,
+                request.getRequiredSkills(), skills.matchedSkills(), skills.missingSkills());
+    }
+
+    /**
+     * Replaces Python's matched/missing skills with the local dictionary match, which also understands
+     * synonyms (k8s for Kubernetes...). Python still provides the score, extracted skills and category.
+     */
+    private MatchResponse withLocalSkillMatch(MatchResponse response, MatchRequest request) {
+        if (!localSkillMatching || response == null
+                || request.getRequiredSkills() == null || request.getRequiredSkills().isEmpty()) {
+            return response;
+        }
+        SkillMatcher.SkillMatch skills = skillMatcher.match(request.getCvText(), request.getRequiredSkills());
+        return new MatchResponse(response.extractedSkills(), response.matchScore(), response.category(),
+                request.getRequiredSkills(), skills.matchedSkills(), skills.missingSkills());
+    }
+
+    private MatchResponse requestMatch(MatchRequest request) {
         String url = pythonBaseUrl + "/ai/match";
         try {
             System.out.println("AI Service Sending to Python: " + url);
             System.out.println("Payload CV Text Length: " + (request.getCvText() != null ? request.getCvText().length() : "NULL"));
-            
+
+            if (matchBatcher.isActive()) {
+                return awaitBatched(request);
+            }
             return restTemplate.postForObject(url, request, MatchResponse.class);
         } catch (org.springframework.web.client.HttpClientErrorException e) {
             System.err.println("AI Service Client Error: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
@@ -34,6 +135,18 @@ public class AiService {
         }
     }
 
+    private MatchResponse awaitBatched(MatchRequest request) {
+        try {
+            // Bounded, so a batch that is never dispatched cannot hold the request thread forever
+            return matchBatcher.submit(request)
+                    .orTimeout(batchAwaitTimeout.toMillis(), java.util.concurrent.TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            // Surface the batch call's own exception so the handlers above treat it like a direct call
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
     public MatchResponse matchCvFile(org.springframework.web.multipart.MultipartFile file, String jobDescription, java.util.List<String> requiredSkills) {
         String url = pythonBaseUrl + "/ai/match-file";
         try {
@@ -64,17 +177,39 @@ public class AiService {
     }
 
     public ExtractResponse extractCv(org.springframework.web.multipart.MultipartFile file) {
+        return extractCv(file.getResource(), restTemplate);
+    }
+
+    /**
+     * Shared by the synchronous endpoint and the extraction job workers, which pass a client
+     * with a longer read timeout.
+     */
+    ExtractResponse extractCv(Resource cv, RestTemplate client) {
         String url = pythonBaseUrl + "/ai/extract";
         try {
-            org.springframework.util.MultiValueMap<String, Object> body = new org.springframework.util.LinkedMultiValueMap<>();
-            body.add("cv_file", file.getResource());
+            String contentHash;
+            try (java.io.InputStream in = cv.getInputStream()) {
+                contentHash = ContentHash.sha256Hex(in);
+            }
+            ExtractResponse cached = extractionCache.get(contentHash);
+            if (cached != null) {
+                log.info("CV extraction served from cache ({})", contentHash);
+                return cached;
+            }
 
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.MULTIPART_FORM_DATA);
+            return extractSingleFlight.execute(contentHash, () -> {
+                org.springframework.util.MultiValueMap<String, Object> body = new org.springframework.util.LinkedMultiValueMap<>();
+                body.add("cv_file", cv);
 
-            org.springframework.http.HttpEntity<org.springframework.util.MultiValueMap<String, Object>> requestEntity = new org.springframework.http.HttpEntity<>(body, headers);
-            
-            return restTemplate.postForObject(url, requestEntity, ExtractResponse.class);
+                org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+                headers.setContentType(org.springframework.http.MediaType.MULTIPART_FORM_DATA);
+
+                org.springframework.http.HttpEntity<org.springframework.util.MultiValueMap<String, Object>> requestEntity = new org.springframework.http.HttpEntity<>(body, headers);
+
+                ExtractResponse response = client.postForObject(url, requestEntity, ExtractResponse.class);
+                extractionCache.put(contentHash, response);
+                return response;
+            });
 
         } catch (Exception e) {
             System.err.println("AI Extraction Failed: " + e.getMessage());
@@ -82,4 +217,101 @@ public class AiService {
             throw new RuntimeException("AI Extraction failed: " + e.getMessage());
         }
     }
+
+    // =============================
+    // 🏆 RANK ALL APPLICANTS OF AN OFFER
+    // =============================
+    public List<RankedCandidate> rankApplicants(Long offerId, MatchMode mode, String authorization) {
+        // Offer and candidate services only trust the caller's JWT, so it is forwarded as-is
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        HttpEntity<Void> authEntity = new HttpEntity<>(headers);
+
+        OfferDetails offer = restTemplate.exchange(offerServiceUrl + "/{id}", HttpMethod.GET, authEntity,
+                OfferDetails.class, offerId).getBody();
+        if (offer == null) {
+            throw new RuntimeException("Offer not found with id: " + offerId);
+        }
+        // Offers published after startup join the BM25 corpus the first time they are ranked
+        corpus.observe(offer.corpusText());
+
+        ApplicantSummary[] applicants = restTemplate.exchange(offerServiceUrl + "/{id}/applications", HttpMethod.GET,
+                authEntity, ApplicantSummary[].class, offerId).getBody();
+        if (applicants == null || applicants.length == 0) {
+            return List.of();
+        }
+
+        log.info("Ranking {} applicants for offer {} (max concurrency {})", applicants.length, offerId, rankMaxConcurrency);
+        long start = System.nanoTime();
+
+        // Each applicant costs two blocking calls (candidate profile + match), which is a good fit for
+        // virtual threads; the semaphore keeps the fan-out from flooding candidate-service and Python.
+        Semaphore permits = new Semaphore(Math.max(1, rankMaxConcurrency));
+        List<RankedCandidate> ranked = new ArrayList<>(applicants.length);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<RankedCandidate>> futures = Arrays.stream(applicants)
+                    .map(applicant -> executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            return rankApplicant(applicant, offer, mode, authEntity);
+                        } finally {
+                            permits.release();
+                        }
+                    }))
+                    .toList();
+
+            for (int i = 0; i < futures.size(); i++) {
+                ranked.add(awaitRanking(futures.get(i), applicants[i]));
+            }
+        }
+
+        ranked.sort(Comparator.comparing(RankedCandidate::matchScore,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        log.info("Ranked {} applicants for offer {} in {} ms", ranked.size(), offerId,
+                (System.nanoTime() - start) / 1_000_000);
+        return ranked;
+    }
+
+    private RankedCandidate rankApplicant(ApplicantSummary applicant, OfferDetails offer, MatchMode mode,
+                                          HttpEntity<Void> authEntity) {
+        CandidateProfile candidate;
+        try {
+            candidate = restTemplate.exchange(candidateServiceUrl + "/{email}", HttpMethod.GET, authEntity,
+                    CandidateProfile.class, applicant.candidateEmail()).getBody();
+        } catch (Exception e) {
+            return failedRanking(applicant, null, "Candidate lookup failed: " + e.getMessage());
+        }
+
+        if (candidate == null || candidate.cvText() == null || candidate.cvText().isBlank()) {
+            return failedRanking(applicant, candidate, "No CV text available");
+        }
+
+        try {
+            MatchResponse result = matchCvToJob(
+                    new MatchRequest(candidate.cvText(), offer.description(), offer.requiredSkills(), mode));
+            return new RankedCandidate(applicant.id(), applicant.candidateEmail(), candidate.firstName(),
+                    candidate.lastName(), applicant.status(), result, null);
+        } catch (Exception e) {
+            return failedRanking(applicant, candidate, e.getMessage());
+        }
+    }
+
+    private RankedCandidate awaitRanking(Future<RankedCandidate> future, ApplicantSummary applicant) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ranking interrupted");
+        } catch (ExecutionException e) {
+            return failedRanking(applicant, null, e.getCause().getMessage());
+        }
+    }
+
+    private RankedCandidate failedRanking(ApplicantSummary applicant, CandidateProfile candidate, String error) {
+        return new RankedCandidate(applicant.id(), applicant.candidateEmail(),
+                candidate != null ? candidate.firstName() : null,
+                candidate != null ? candidate.lastName() : null,
+                applicant.status(), null, error);
+    }
 }
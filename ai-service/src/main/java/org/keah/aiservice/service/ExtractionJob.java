@@ -0,0 +1,105 @@
+package org.keah.aiservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.dto.ExtractionJobStatus;
+import org.keah.aiservice.dto.ExtractionJobStatus.State;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutable state of one extraction job. Transitions and SSE subscriptions are guarded by the
+ * job's monitor so a subscriber can never miss the final event.
+ */
+@Slf4j
+class ExtractionJob {
+
+    private final String id;
+    private final String ownerEmail;
+    private final Instant submittedAt = Instant.now();
+    private final List<SseEmitter> subscribers = new ArrayList<>();
+
+    private State state = State.QUEUED;
+    private Instant completedAt;
+    private ExtractResponse result;
+    private String error;
+
+    ExtractionJob(String id, String ownerEmail) {
+        this.id = id;
+        this.ownerEmail = ownerEmail;
+    }
+
+    boolean ownedBy(String email) {
+        return ownerEmail.equals(email);
+    }
+
+    synchronized ExtractionJobStatus status() {
+        return new ExtractionJobStatus(id, state, submittedAt, completedAt, result, error);
+    }
+
+    synchronized void running() {
+        state = State.RUNNING;
+        publish(false);
+    }
+
+    synchronized void done(ExtractResponse response) {
+        result = response;
+        finish(State.DONE);
+    }
+
+    synchronized void failed(String message) {
+        error = message;
+        finish(State.FAILED);
+    }
+
+    synchronized void subscribe(SseEmitter emitter) {
+        send(emitter, status());
+        if (state == State.DONE || state == State.FAILED) {
+            emitter.complete();
+            return;
+        }
+        subscribers.add(emitter);
+        Runnable remove = () -> unsubscribe(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+    }
+
+    private synchronized void unsubscribe(SseEmitter emitter) {
+        subscribers.remove(emitter);
+    }
+
+    private void finish(State finalState) {
+        state = finalState;
+        completedAt = Instant.now();
+        publish(true);
+    }
+
+    private void publish(boolean last) {
+        ExtractionJobStatus snapshot = status();
+        for (SseEmitter emitter : List.copyOf(subscribers)) {
+            if (send(emitter, snapshot) && last) {
+                emitter.complete();
+            }
+        }
+        if (last) {
+            subscribers.clear();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, ExtractionJobStatus snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(snapshot));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter's own callbacks take it out of the list
+            log.debug("Dropping SSE subscriber of job {}: {}", id, e.getMessage());
+            subscribers.remove(emitter);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.keah.aiservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.dto.ExtractionJobStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CV extractions off the request thread. The upload is copied to a temp file, the job is
+ * queued on a fixed worker pool and the caller gets the job id straight away; the result is
+ * read back by polling or over SSE. A full queue is reported as 503 rather than blocking Tomcat.
+ * A job is only visible to the user who submitted it; anyone else gets the same 404 as for an unknown id.
+ * Queued and running jobs are held apart from finished ones, so the size cap on retained results
+ * can never evict a job that is still in flight (their number is already bounded by the pool).
+ */
+@Service
+@Slf4j
+public class ExtractionJobService {
+
+    private final AiService aiService;
+    private final RestTemplate extractionRestTemplate;
+    private final ExecutorService workers;
+    private final Map<String, ExtractionJob> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, ExtractionJob> finished;
+    private final Duration sseTimeout;
+
+    public ExtractionJobService(
+            AiService aiService,
+            @Qualifier("extractionRestTemplate") RestTemplate extractionRestTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ai.extract.jobs.workers:8}") int workerCount,
+            @Value("${ai.extract.jobs.queue-capacity:200}") int queueCapacity,
+            @Value("${ai.extract.jobs.retention:1h}") Duration retention,
+            @Value("${ai.extract.jobs.max-tracked:10000}") long maxTracked,
+            @Value("${ai.extract.jobs.sse-timeout:5m}") Duration sseTimeout) {
+        this.aiService = aiService;
+        this.extractionRestTemplate = extractionRestTemplate;
+        this.sseTimeout = sseTimeout;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                workerCount, workerCount, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> Thread.ofPlatform().name("cv-extract-" + threadIndex.incrementAndGet()).daemon().unstarted(task),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.workers = ExecutorServiceMetrics.monitor(meterRegistry, pool, "ai.extract.jobs");
+
+        this.finished = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maxTracked)
+                .build();
+    }
+
+    public ExtractionJobStatus submit(MultipartFile file, String ownerEmail) {
+        Path upload;
+        try {
+            upload = Files.createTempFile("cv-extract-", ".upload");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store upload for extraction: " + e.getMessage());
+        }
+
+        ExtractionJob job = new ExtractionJob(UUID.randomUUID().toString(), ownerEmail);
+        // Python infers the document type from the file name, so the original one is kept
+        String filename = file.getOriginalFilename();
+        FileSystemResource cv = new FileSystemResource(upload) {
+            @Override
+            public String getFilename() {
+                return filename != null ? filename : super.getFilename();
+            }
+        };
+
+        inFlight.put(job.status().jobId(), job);
+        try {
+            workers.execute(() -> run(job, cv, upload));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(job.status().jobId());
+            deleteQuietly(upload);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Extraction queue is full");
+        }
+        return job.status();
+    }
+
+    public ExtractionJobStatus status(String jobId, String email) {
+        return find(jobId, email).status();
+    }
+
+    public SseEmitter subscribe(String jobId, String email) {
+        ExtractionJob job = find(jobId, email);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void run(ExtractionJob job, FileSystemResource cv, Path upload) {
+        job.running();
+        try {
+            job.done(aiService.extractCv(cv, extractionRestTemplate));
+        } catch (RuntimeException e) {
+            log.warn("Extraction job {} failed: {}", job.status().jobId(), e.getMessage());
+            job.failed(e.getMessage());
+        } finally {
+            deleteQuietly(upload);
+            // Retention counts from completion; published before leaving in-flight so polls never miss it
+            finished.put(job.status().jobId(), job);
+            inFlight.remove(job.status().jobId());
+        }
+    }
+
+    private ExtractionJob find(String jobId, String email) {
+        ExtractionJob job = inFlight.get(jobId);
+        if (job == null) {
+            job = finished.getIfPresent(jobId);
+        }
+        if (job == null || !job.ownedBy(email)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown extraction job " + jobId);
+        }
+        return job;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
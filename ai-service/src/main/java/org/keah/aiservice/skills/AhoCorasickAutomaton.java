@@ -0,0 +1,203 @@
+package org.keah.aiservice.skills;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive multi-pattern matcher. Every pattern maps to a group id (a skill and its synonyms
+ * share the same group), and {@link #scan} reports which groups occur as whole words in one pass over the text.
+ * Instances are immutable and safe to share between threads.
+ */
+final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    /** Outgoing edges of each state as parallel sorted arrays, searched with a binary search. */
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    /** Output groups of each state, including the ones inherited through failure links. */
+    private final int[][] outputs;
+    /** Pattern length for each output entry, used to check the left word boundary. */
+    private final int[][] outputLengths;
+    private final int groupCount;
+
+    private AhoCorasickAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] failure,
+                                 int[][] outputs, int[][] outputLengths, int groupCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.outputLengths = outputLengths;
+        this.groupCount = groupCount;
+    }
+
+    /**
+     * @param patternsByGroup index = group id, value = the surface forms that identify that group
+     */
+    static AhoCorasickAutomaton compile(List<List<String>> patternsByGroup) {
+        List<Map<Character, Integer>> goTo = new ArrayList<>();
+        List<int[]> terminal = new ArrayList<>();
+        List<int[]> terminalLengths = new ArrayList<>();
+        goTo.add(new HashMap<>());
+        terminal.add(new int[0]);
+        terminalLengths.add(new int[0]);
+
+        for (int group = 0; group < patternsByGroup.size(); group++) {
+            for (String pattern : patternsByGroup.get(group)) {
+                String normalized = new String(normalize(pattern.strip()));
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                int state = ROOT;
+                for (int i = 0; i < normalized.length(); i++) {
+                    char c = normalized.charAt(i);
+                    Integer next = goTo.get(state).get(c);
+                    if (next == null) {
+                        next = goTo.size();
+                        goTo.add(new HashMap<>());
+                        terminal.add(new int[0]);
+                        terminalLengths.add(new int[0]);
+                        goTo.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                terminal.set(state, append(terminal.get(state), group));
+                terminalLengths.set(state, append(terminalLengths.get(state), normalized.length()));
+            }
+        }
+
+        int size = goTo.size();
+        int[] failure = new int[size];
+        int[][] outputs = terminal.toArray(new int[0][]);
+        int[][] outputLengths = terminalLengths.toArray(new int[0][]);
+
+        // Breadth-first so a state's failure target is always finalized before its children
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : goTo.get(ROOT).values()) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : goTo.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != ROOT && !goTo.get(fallback).containsKey(c)) {
+                    fallback = failure[fallback];
+                }
+                Integer target = goTo.get(fallback).get(c);
+                failure[child] = target != null && target != child ? target : ROOT;
+                outputs[child] = concat(outputs[child], outputs[failure[child]]);
+                outputLengths[child] = concat(outputLengths[child], outputLengths[failure[child]]);
+                queue.add(child);
+            }
+        }
+
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = new TreeMap<>(goTo.get(state));
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][k] = edge.getKey();
+                edgeTargets[state][k] = edge.getValue();
+                k++;
+            }
+        }
+
+        return new AhoCorasickAutomaton(edgeChars, edgeTargets, failure, outputs, outputLengths,
+                patternsByGroup.size());
+    }
+
+    /**
+     * Returns the set of groups with at least one pattern occurring in {@code text} as a whole word,
+     * i.e. not glued to a letter or digit on either side ("java" does not match inside "javascript").
+     */
+    BitSet scan(CharSequence text) {
+        char[] chars = normalize(text);
+        BitSet found = new BitSet(groupCount);
+        int state = ROOT;
+        int length = chars.length;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            int next;
+            while ((next = next(state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = Math.max(next, ROOT);
+
+            int[] groups = outputs[state];
+            if (groups.length == 0 || (i + 1 < length && isWordChar(chars[i + 1]))) {
+                continue;
+            }
+            for (int k = 0; k < groups.length; k++) {
+                int start = i + 1 - outputLengths[state][k];
+                if (start == 0 || !isWordChar(chars[start - 1])) {
+                    found.set(groups[k]);
+                }
+            }
+            if (found.cardinality() == groupCount) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    /**
+     * Lower-cases and collapses whitespace runs to a single space, so "Spring\n  Boot" in an extracted
+     * PDF still matches "Spring Boot". Patterns and text go through the same normalization.
+     */
+    private static char[] normalize(CharSequence text) {
+        char[] chars = new char[text.length()];
+        int length = 0;
+        boolean previousWasSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousWasSpace) {
+                    chars[length++] = ' ';
+                }
+                previousWasSpace = true;
+            } else {
+                chars[length++] = Character.toLowerCase(c);
+                previousWasSpace = false;
+            }
+        }
+        return length == chars.length ? chars : Arrays.copyOf(chars, length);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package org.keah.aiservice.skills;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes matched/missing required skills locally by scanning the CV text once with an
+ * Aho-Corasick automaton built from the required skills and their synonyms.
+ * Automata are cached per required-skill list, since an offer's skills are matched against many CVs.
+ */
+@Component
+@Slf4j
+public class SkillMatcher {
+
+    private final Map<String, List<String>> synonyms;
+    private final Cache<List<String>, AhoCorasickAutomaton> automata = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    public SkillMatcher(@Value("${ai.skills.synonyms:classpath:skill-synonyms.txt}") Resource synonymsFile)
+            throws IOException {
+        this.synonyms = loadSynonyms(synonymsFile);
+        log.info("Loaded {} skill synonym entries", synonyms.size());
+    }
+
+    public record SkillMatch(List<String> matchedSkills, List<String> missingSkills) {}
+
+    public SkillMatch match(String cvText, List<String> requiredSkills) {
+        List<String> skills = requiredSkills == null ? List.of() : requiredSkills.stream()
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+        if (skills.isEmpty()) {
+            return new SkillMatch(List.of(), List.of());
+        }
+        if (cvText == null || cvText.isEmpty()) {
+            return new SkillMatch(List.of(), skills);
+        }
+
+        BitSet found = automata.get(skills, this::compile).scan(cvText);
+
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < skills.size(); i++) {
+            (found.get(i) ? matched : missing).add(skills.get(i));
+        }
+        return new SkillMatch(matched, missing);
+    }
+
+    private AhoCorasickAutomaton compile(List<String> skills) {
+        List<List<String>> patternsByGroup = new ArrayList<>(skills.size());
+        for (String skill : skills) {
+            Set<String> forms = new LinkedHashSet<>();
+            forms.add(skill);
+            forms.addAll(synonyms.getOrDefault(skill.toLowerCase(), List.of()));
+            patternsByGroup.add(List.copyOf(forms));
+        }
+        return AhoCorasickAutomaton.compile(patternsByGroup);
+    }
+
+    /**
+     * One synonym group per line, comma separated ({@code javascript, js, ecmascript});
+     * every form of a group can stand in for any other. Lines starting with '#' are ignored.
+     */
+    private static Map<String, List<String>> loadSynonyms(Resource file) throws IOException {
+        Map<String, List<String>> synonyms = new HashMap<>();
+        if (!file.exists()) {
+            return synonyms;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                List<String> group = new ArrayList<>();
+                for (String form : line.split(",")) {
+                    if (!form.isBlank()) {
+                        group.add(form.strip().toLowerCase());
+                    }
+                }
+                for (String form : group) {
+                    synonyms.computeIfAbsent(form, k -> new ArrayList<>()).addAll(group);
+                }
+            }
+        }
+        return synonyms;
+    }
+}
@@ -0,0 +1,73 @@
+package org.keah.aiservice.streaming;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the total size of uploads being piped to Python at the same time. Permits are KiB so
+ * a multi-gigabyte budget still fits in a {@link Semaphore}; a request bigger than the whole
+ * budget is charged the whole budget instead of waiting forever.
+ */
+@Component
+public class InFlightByteBudget {
+
+    private static final long UNIT = 1024;
+
+    private final Semaphore permits;
+    private final int totalPermits;
+    private final Duration acquireTimeout;
+
+    public InFlightByteBudget(
+            @Value("${ai.stream.max-in-flight:256MB}") DataSize maxInFlight,
+            @Value("${ai.stream.acquire-timeout:2s}") Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        this.totalPermits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxInFlight.toBytes() / UNIT));
+        this.permits = new Semaphore(totalPermits, true);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("ai.stream.in-flight.bytes", this, budget -> (double) budget.inFlightBytes())
+                .description("Upload bytes currently reserved by streaming pass-through requests")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a reservation to close once the upload has been forwarded, or {@code null} if the
+     *         budget stayed exhausted for the whole acquire timeout
+     */
+    public Reservation tryAcquire(long bytes) throws InterruptedException {
+        int requested = (int) Math.min(totalPermits, Math.max(1, (bytes + UNIT - 1) / UNIT));
+        if (!permits.tryAcquire(requested, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+        return new Reservation(requested);
+    }
+
+    public long inFlightBytes() {
+        return (totalPermits - permits.availablePermits()) * UNIT;
+    }
+
+    public final class Reservation implements AutoCloseable {
+
+        private final int held;
+        private boolean released;
+
+        private Reservation(int held) {
+            this.held = held;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release(held);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.keah.aiservice.streaming;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Copies a multipart/form-data body from one stream to another without buffering the parts,
+ * renaming form fields on the way (the frontend sends {@code file}, Python expects {@code cv_file}).
+ * Only part headers are held in memory; part bodies are scanned for the delimiter with KMP and
+ * written through as they arrive. The preamble and epilogue are dropped.
+ */
+public final class MultipartStreamRewriter {
+
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=(\"([^\"]+)\"|[^;\\s]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FIELD_NAME = Pattern.compile("(;\\s*name=\")([^\"]*)(\")", Pattern.CASE_INSENSITIVE);
+
+    private enum State { PREAMBLE, BOUNDARY_LINE, HEADERS, BODY, EPILOGUE }
+
+    private final byte[] delimiter;
+    private final int[] prefixFunction;
+    private final Map<String, String> fieldRenames;
+
+    public MultipartStreamRewriter(String boundary, Map<String, String> fieldRenames) {
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.prefixFunction = prefixFunction(delimiter);
+        this.fieldRenames = fieldRenames;
+    }
+
+    public static String boundaryOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        Matcher matcher = BOUNDARY.matcher(contentType);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(2) != null ? matcher.group(2) : matcher.group(1);
+    }
+
+    /**
+     * @param maxBytes upper bound on bytes read from {@code in}; exceeding it fails the transfer
+     * @return number of bytes read
+     */
+    public long transfer(InputStream in, OutputStream target, long maxBytes) throws IOException {
+        OutputStream out = new BufferedOutputStream(target, BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        State state = State.PREAMBLE;
+        // The first boundary has no leading CRLF; pretend one was already seen
+        int matched = 2;
+        boolean firstPart = true;
+        long total = 0;
+
+        int read;
+        while (state != State.EPILOGUE && (read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new PayloadTooLargeException(maxBytes);
+            }
+            for (int i = 0; i < read && state != State.EPILOGUE; i++) {
+                byte b = buffer[i];
+                switch (state) {
+                    case PREAMBLE, BODY -> {
+                        boolean emit = state == State.BODY;
+                        while (matched > 0 && b != delimiter[matched]) {
+                            int keep = prefixFunction[matched - 1];
+                            if (emit) {
+                                out.write(delimiter, 0, matched - keep);
+                            }
+                            matched = keep;
+                        }
+                        if (b == delimiter[matched]) {
+                            matched++;
+                            if (matched == delimiter.length) {
+                                matched = 0;
+                                out.write(delimiter, firstPart ? 2 : 0, firstPart ? delimiter.length - 2 : delimiter.length);
+                                firstPart = false;
+                                state = State.BOUNDARY_LINE;
+                            }
+                        } else if (emit) {
+                            out.write(b);
+                        }
+                    }
+                    case BOUNDARY_LINE -> {
+                        pending.write(b);
+                        if (isClosing(pending)) {
+                            out.write(new byte[]{'-', '-'});
+                            out.write(CRLF);
+                            state = State.EPILOGUE;
+                        } else if (b == '\n') {
+                            // Anything between the boundary and CRLF is transport padding
+                            pending.reset();
+                            out.write(CRLF);
+                            state = State.HEADERS;
+                        } else if (pending.size() > MAX_HEADER_BYTES) {
+                            throw new IOException("Malformed multipart boundary line");
+                        }
+                    }
+                    case HEADERS -> {
+                        pending.write(b);
+                        if (endsWithBlankLine(pending)) {
+                            out.write(rewriteHeaders(pending.toString(StandardCharsets.ISO_8859_1))
+                                    .getBytes(StandardCharsets.ISO_8859_1));
+                            pending.reset();
+                            state = State.BODY;
+                        } else if (pending.size() > MAX_HEADER_BYTES) {
+                            throw new IOException("Multipart part headers exceed " + MAX_HEADER_BYTES + " bytes");
+                        }
+                    }
+                    default -> throw new IllegalStateException("Unexpected state " + state);
+                }
+            }
+        }
+
+        if (state == State.BOUNDARY_LINE && isClosing(pending)) {
+            out.write(new byte[]{'-', '-'});
+            out.write(CRLF);
+        } else if (state != State.EPILOGUE) {
+            throw new IOException("Truncated multipart body");
+        }
+        // Drain the epilogue so the client sees its request fully consumed
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+        }
+        out.flush();
+        return total;
+    }
+
+    private String rewriteHeaders(String headers) {
+        StringBuilder result = new StringBuilder(headers.length());
+        for (String line : headers.split("\r\n", -1)) {
+            if (!result.isEmpty()) {
+                result.append("\r\n");
+            }
+            if (line.regionMatches(true, 0, "Content-Disposition:", 0, 20)) {
+                Matcher matcher = FIELD_NAME.matcher(line);
+                if (matcher.find() && fieldRenames.containsKey(matcher.group(2))) {
+                    line = line.substring(0, matcher.start(2)) + fieldRenames.get(matcher.group(2))
+                            + line.substring(matcher.end(2));
+                }
+            }
+            result.append(line);
+        }
+        return result.toString();
+    }
+
+    private static boolean isClosing(ByteArrayOutputStream line) {
+        byte[] bytes = line.toByteArray();
+        return bytes.length >= 2 && bytes[0] == '-' && bytes[1] == '-';
+    }
+
+    private static boolean endsWithBlankLine(ByteArrayOutputStream headers) {
+        int size = headers.size();
+        if (size < 4) {
+            return false;
+        }
+        byte[] bytes = headers.toByteArray();
+        return bytes[size - 4] == '\r' && bytes[size - 3] == '\n' && bytes[size - 2] == '\r' && bytes[size - 1] == '\n';
+    }
+
+    private static int[] prefixFunction(byte[] pattern) {
+        int[] pi = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = pi[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            pi[i] = k;
+        }
+        return pi;
+    }
+
+    public static class PayloadTooLargeException extends IOException {
+        public PayloadTooLargeException(long maxBytes) {
+            super("Request body exceeds " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.keah.aiservice.streaming;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.aiservice.dto.ExtractResponse;
+import org.keah.aiservice.scoring.CorpusStatistics;
+import org.keah.aiservice.dto.MatchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Pass-through variant of /ai/extract and /ai/match-file: the raw multipart body is piped to
+ * Python as it is read from the client, so an upload never sits in memory or on disk here.
+ * The trade-off is that nothing is known about the file before it is sent, so these paths
+ * skip the extraction cache and request coalescing.
+ */
+@Service
+@Slf4j
+public class StreamingProxyService {
+
+    // The frontend and candidate-service call the upload "file"; Python's FastAPI handlers use "cv_file"
+    private static final Map<String, String> FIELD_RENAMES = Map.of("file", "cv_file");
+
+    private final RestTemplate restTemplate;
+    private final InFlightByteBudget byteBudget;
+    private final CorpusStatistics corpus;
+    private final String pythonBaseUrl;
+    private final long maxRequestBytes;
+
+    public StreamingProxyService(
+            RestTemplate restTemplate,
+            InFlightByteBudget byteBudget,
+            CorpusStatistics corpus,
+            @Value("${ai.python.base-url:http://localhost:8000}") String pythonBaseUrl,
+            @Value("${ai.stream.max-request-size:20MB}") DataSize maxRequestSize) {
+        this.restTemplate = restTemplate;
+        this.byteBudget = byteBudget;
+        this.corpus = corpus;
+        this.pythonBaseUrl = pythonBaseUrl;
+        this.maxRequestBytes = maxRequestSize.toBytes();
+    }
+
+    public ExtractResponse extractCv(HttpServletRequest request) {
+        ExtractResponse response = forward(request, "/ai/extract", ExtractResponse.class);
+        if (response != null) {
+            // This path bypasses the extraction cache, so the CV joins the BM25 corpus here
+            corpus.observe(response.cvText());
+        }
+        return response;
+    }
+
+    public MatchResponse matchCvFile(HttpServletRequest request) {
+        return forward(request, "/ai/match-file", MatchResponse.class);
+    }
+
+    private <T> T forward(HttpServletRequest request, String path, Class<T> responseType) {
+        String boundary = MultipartStreamRewriter.boundaryOf(request.getContentType());
+        if (boundary == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expected multipart/form-data with a boundary");
+        }
+        long declaredLength = request.getContentLengthLong();
+        if (declaredLength > maxRequestBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        // Chunked uploads have no length up front, so they reserve the per-request maximum
+        long reserved = declaredLength >= 0 ? declaredLength : maxRequestBytes;
+        InFlightByteBudget.Reservation reservation;
+        try {
+            reservation = byteBudget.tryAcquire(reserved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (reservation == null) {
+            log.warn("Streaming upload rejected: {} bytes already in flight", byteBudget.inFlightBytes());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads in progress");
+        }
+
+        MultipartStreamRewriter rewriter = new MultipartStreamRewriter(boundary, FIELD_RENAMES);
+        try (reservation; InputStream in = request.getInputStream()) {
+            return restTemplate.execute(pythonBaseUrl + path, HttpMethod.POST, outgoing -> {
+                outgoing.getHeaders().set(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+                if (outgoing instanceof StreamingHttpOutputMessage streaming) {
+                    streaming.setBody(out -> rewriter.transfer(in, out, maxRequestBytes));
+                } else {
+                    rewriter.transfer(in, outgoing.getBody(), maxRequestBytes);
+                }
+            }, new HttpMessageConverterExtractor<>(responseType, restTemplate.getMessageConverters()));
+        } catch (IOException e) {
+            throw new RuntimeException("Streaming upload failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof MultipartStreamRewriter.PayloadTooLargeException) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.keah.aiservice.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.keah.aiservice.dto.MatchRequest;
+import org.keah.aiservice.dto.MatchResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Uses MockRestServiceServer as a stand-in for the Python batch endpoint.
+ */
+class MatchBatcherTest {
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer python = MockRestServiceServer.bindTo(restTemplate).build();
+    private MatchBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void requestsInsideWindowShareOneBatchAndAreDemultiplexedInOrder() throws Exception {
+        python.expect(once(), requestTo("http://python/ai/match/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[1].cv_text").value("cv-2"))
+                .andRespond(withSuccess("""
+                        [{"score": 10.0}, {"score": 20.0}, {"score": 30.0}]
+                        """, MediaType.APPLICATION_JSON));
+        batcher = start(Duration.ofMillis(200), 3);
+
+        CompletableFuture<MatchResponse> first = batcher.submit(request("cv-1"));
+        CompletableFuture<MatchResponse> second = batcher.submit(request("cv-2"));
+        CompletableFuture<MatchResponse> third = batcher.submit(request("cv-3"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).matchScore()).isEqualTo(10.0);
+        assertThat(second.get(5, TimeUnit.SECONDS).matchScore()).isEqualTo(20.0);
+        assertThat(third.get(5, TimeUnit.SECONDS).matchScore()).isEqualTo(30.0);
+        python.verify();
+    }
+
+    @Test
+    void fallsBackToSingleCallsWhenBatchEndpointIsMissing() throws Exception {
+        python.expect(once(), requestTo("http://python/ai/match/batch"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        python.expect(once(), requestTo("http://python/ai/match"))
+                .andRespond(withSuccess("{\"score\": 42.0}", MediaType.APPLICATION_JSON));
+        batcher = start(Duration.ofMillis(1), 32);
+
+        MatchResponse response = batcher.submit(request("cv")).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.matchScore()).isEqualTo(42.0);
+        assertThat(batcher.isActive()).isFalse();
+        python.verify();
+    }
+
+    @Test
+    void submitAfterStopFailsInsteadOfHanging() {
+        batcher = start(Duration.ofMillis(1), 32);
+        batcher.stop();
+
+        CompletableFuture<MatchResponse> result = batcher.submit(request("cv"));
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(batcher.isActive()).isFalse();
+    }
+
+    private MatchBatcher start(Duration window, int maxSize) {
+        MatchBatcher started = new MatchBatcher(restTemplate, "http://python", true, window, maxSize);
+        started.start();
+        return started;
+    }
+
+    private static MatchRequest request(String cvText) {
+        return new MatchRequest(cvText, "job", List.of("Java"));
+    }
+}
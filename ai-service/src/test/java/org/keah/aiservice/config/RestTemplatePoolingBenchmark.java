@@ -0,0 +1,145 @@
+package org.keah.aiservice.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second for the two hottest inter-service calls, the multipart {@code /ai/extract}
+ * upload from candidate-service and the JSON {@code /candidates/internal} call from auth-service,
+ * with the old SimpleClientHttpRequestFactory versus the pooled client from {@link RestTemplateConfig}.
+ * Both run against an in-process stub server so only the client side differs.
+ * Run with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class RestTemplatePoolingBenchmark {
+
+    @Param({"simple", "pooled"})
+    public String client;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+    private HttpEntity<MultiValueMap<String, Object>> extractRequest;
+    private Map<String, String> candidateRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        serverExecutor = Executors.newFixedThreadPool(32);
+        server.setExecutor(serverExecutor);
+        server.createContext("/ai/extract", exchange -> respond(exchange,
+                "{\"cv_text\":\"text\",\"skills\":[\"Java\"],\"category\":\"IT\",\"cleaned_text\":\"text\"}"));
+        server.createContext("/candidates/internal", exchange -> respond(exchange,
+                "{\"id\":1,\"email\":\"a@b.c\"}"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        if ("pooled".equals(client)) {
+            RestTemplateConfig config = new RestTemplateConfig();
+            connectionManager = config.httpConnectionManager(200, 50, Duration.ofSeconds(5), Duration.ofSeconds(10),
+                    Duration.ofMinutes(5));
+            httpClient = config.httpClient(connectionManager, Duration.ofSeconds(2), Duration.ofSeconds(30));
+            restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        } else {
+            restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        }
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(new byte[200 * 1024]) {
+            @Override
+            public String getFilename() {
+                return "cv.pdf";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        extractRequest = new HttpEntity<>(body, headers);
+        candidateRequest = Map.of("userId", "1", "email", "a@b.c", "firstName", "A", "lastName", "B");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+            connectionManager.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Map<?, ?> aiExtract() {
+        return restTemplate.postForObject(baseUrl + "/ai/extract", extractRequest, Map.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> candidatesInternal() {
+        return restTemplate.postForObject(baseUrl + "/candidates/internal", candidateRequest, Map.class);
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RestTemplatePoolingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
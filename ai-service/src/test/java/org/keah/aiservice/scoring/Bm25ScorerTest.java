@@ -0,0 +1,89 @@
+package org.keah.aiservice.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.keah.aiservice.cache.ExtractionCache;
+import org.keah.aiservice.dto.ExtractResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25ScorerTest {
+
+    private static final String JOB = "Backend developer with Java, Spring Boot and MySQL experience";
+    private static final List<String> SKILLS = List.of("Java", "Spring Boot", "MySQL");
+
+    @TempDir
+    Path cacheDir;
+
+    private CorpusStatistics corpus;
+    private ExtractionCache extractionCache;
+    private Bm25Scorer scorer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        corpus = new CorpusStatistics(1_000);
+        extractionCache = new ExtractionCache(cacheDir.toString(), new ObjectMapper(), corpus,
+                new SimpleMeterRegistry());
+        scorer = new Bm25Scorer(corpus);
+    }
+
+    @Test
+    void relevantCvOutscoresUnrelatedCv() {
+        double relevant = scorer.score("Java developer. Built Spring Boot services on MySQL.", JOB, SKILLS);
+        double unrelated = scorer.score("Pastry chef, croissants and bread for ten years.", JOB, SKILLS);
+
+        assertThat(relevant).isGreaterThan(unrelated);
+        assertThat(unrelated).isZero();
+    }
+
+    @Test
+    void scoreStaysWithinPythonScale() {
+        double score = scorer.score(JOB + " " + JOB + " " + JOB, JOB, SKILLS);
+
+        assertThat(score).isBetween(0.0, 100.0);
+    }
+
+    @Test
+    void fullyMatchingCvScoresFullMarksAgainstEmptyCorpus() {
+        // About 300 words, like a real CV, mentioning every job term at least once
+        String cv = JOB + " " + String.join(" ",
+                Collections.nCopies(36, "Delivered reliable production systems across several distributed teams"));
+
+        assertThat(corpus.documentCount()).isZero();
+        assertThat(scorer.score(cv, JOB, SKILLS)).isEqualTo(100.0);
+    }
+
+    @Test
+    void emptyCvScoresZero() {
+        assertThat(scorer.score(null, JOB, SKILLS)).isZero();
+    }
+
+    @Test
+    void scoringDoesNotChangeCorpusStatistics() {
+        String cv = "Java developer. Built Spring Boot services on MySQL.";
+        extractionCache.put("ab12", new ExtractResponse(cv, List.of(), null, null));
+        double averageLength = corpus.averageLength();
+
+        scorer.score(cv, JOB, SKILLS);
+        scorer.score(cv, JOB, SKILLS);
+
+        assertThat(corpus.documentCount()).isEqualTo(1);
+        assertThat(corpus.averageLength()).isEqualTo(averageLength);
+    }
+
+    @Test
+    void rewritingTheSameCvCountsItOnce() {
+        extractionCache.put("ab12", new ExtractResponse("Java developer", List.of(), null, null));
+        extractionCache.put("ab12", new ExtractResponse("Java developer", List.of(), null, null));
+
+        assertThat(corpus.documentCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,98 @@
+package org.keah.aiservice.skills;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Local skill matching against a 10k-word CV: the Aho-Corasick scan versus one
+ * case-insensitive whole-word regex per required skill.
+ * Run with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillMatcherBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "developer", "team", "project", "delivered", "platform", "services", "customers", "design",
+            "java", "spring", "boot", "microservices", "docker", "kubernetes", "k8s", "aws", "react",
+            "angular", "typescript", "python", "sql", "mysql", "postgres", "kafka", "testing", "agile",
+            "scrum", "lead", "mentored", "architecture", "performance", "security", "api", "rest",
+            "javascript", "node.js", "ci/cd", "git", "linux", "cloud", "data", "pipeline", "analytics"
+    };
+
+    @Param({"10", "50"})
+    public int skillCount;
+
+    private String cvText;
+    private List<String> requiredSkills;
+    private List<Pattern> regexes;
+    private SkillMatcher matcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        StringBuilder cv = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            cv.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(i % 12 == 11 ? ".\n" : " ");
+        }
+        cvText = cv.toString();
+
+        requiredSkills = new java.util.ArrayList<>();
+        for (int i = 0; i < skillCount; i++) {
+            // Half the skills exist in the vocabulary, half never match and force a full scan
+            requiredSkills.add(i % 2 == 0 ? VOCABULARY[(i * 7) % VOCABULARY.length] : "skill-" + i);
+        }
+        regexes = requiredSkills.stream()
+                .map(skill -> Pattern.compile("(?<![\\p{L}\\p{N}])" + Pattern.quote(skill) + "(?![\\p{L}\\p{N}])",
+                        Pattern.CASE_INSENSITIVE))
+                .toList();
+
+        matcher = new SkillMatcher(new ClassPathResource("skill-synonyms.txt"));
+        matcher.match(cvText, requiredSkills);
+    }
+
+    @Benchmark
+    public SkillMatcher.SkillMatch ahoCorasick() {
+        return matcher.match(cvText, requiredSkills);
+    }
+
+    @Benchmark
+    public int regexPerSkill() {
+        int matched = 0;
+        for (Pattern regex : regexes) {
+            if (regex.matcher(cvText).find()) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillMatcherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package org.keah.aiservice.skills;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatcherTest {
+
+    private final SkillMatcher matcher = new SkillMatcher(new ClassPathResource("skill-synonyms.txt"));
+
+    SkillMatcherTest() throws IOException {
+    }
+
+    @Test
+    void matchesWholeWordsCaseInsensitively() {
+        SkillMatcher.SkillMatch match = matcher.match(
+                "Senior JAVA developer, some JavaScript exposure.", List.of("Java", "Python"));
+
+        assertThat(match.matchedSkills()).containsExactly("Java");
+        assertThat(match.missingSkills()).containsExactly("Python");
+    }
+
+    @Test
+    void doesNotMatchInsideLongerWords() {
+        SkillMatcher.SkillMatch match = matcher.match("JavaScript and Scala", List.of("Java", "Go"));
+
+        assertThat(match.matchedSkills()).isEmpty();
+        assertThat(match.missingSkills()).containsExactly("Java", "Go");
+    }
+
+    @Test
+    void matchesSynonymsAndMultiWordSkillsAcrossLineBreaks() {
+        SkillMatcher.SkillMatch match = matcher.match(
+                "Deployed services on k8s.\nBuilt with Spring\n  Boot and C++.",
+                List.of("Kubernetes", "Spring Boot", "C++", "Docker"));
+
+        assertThat(match.matchedSkills()).containsExactly("Kubernetes", "Spring Boot", "C++");
+        assertThat(match.missingSkills()).containsExactly("Docker");
+    }
+
+    @Test
+    void relatedButDistinctSkillsAreNotSynonyms() {
+        SkillMatcher.SkillMatch match = matcher.match(
+                "Code hosted on GitHub, Scrum master, MariaDB in production.",
+                List.of("GitLab", "Agile", "MySQL"));
+
+        assertThat(match.matchedSkills()).isEmpty();
+        assertThat(match.missingSkills()).containsExactly("GitLab", "Agile", "MySQL");
+    }
+
+    @Test
+    void everythingIsMissingWithoutCvText() {
+        SkillMatcher.SkillMatch match = matcher.match(null, List.of("Java"));
+
+        assertThat(match.matchedSkills()).isEmpty();
+        assertThat(match.missingSkills()).containsExactly("Java");
+    }
+}
@@ -0,0 +1,82 @@
+package org.keah.aiservice.streaming;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartStreamRewriterTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxk";
+
+    // Part bodies contain near-misses of the delimiter to exercise the KMP fallback
+    private static final String BODY = "ignored preamble\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"cv.pdf\"\r\n"
+            + "Content-Type: application/pdf\r\n"
+            + "\r\n"
+            + "%PDF-1.7\r\n--" + BOUNDARY.substring(0, 12) + "\r\n\r\n--\r\n-"
+            + "\r\n--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"job_description\"\r\n"
+            + "\r\n"
+            + "Java developer"
+            + "\r\n--" + BOUNDARY + "--\r\n"
+            + "ignored epilogue";
+
+    @Test
+    void renamesFileFieldAndPassesBodiesThroughRegardlessOfChunking() throws IOException {
+        String expected = BODY.substring(BODY.indexOf("--" + BOUNDARY), BODY.indexOf("ignored epilogue"))
+                .replace("name=\"file\"", "name=\"cv_file\"");
+
+        for (int chunk : new int[]{1, 2, 7, 64, 8192}) {
+            assertThat(rewrite(BODY, chunk)).as("chunk size %d", chunk).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void leavesOtherFieldNamesAlone() throws IOException {
+        assertThat(rewrite(BODY, 8192)).contains("name=\"job_description\"");
+    }
+
+    @Test
+    void rejectsTruncatedBody() {
+        String truncated = BODY.substring(0, BODY.indexOf("Java developer"));
+        assertThatThrownBy(() -> rewrite(truncated, 8192)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsBodiesOverTheLimit() {
+        MultipartStreamRewriter rewriter = new MultipartStreamRewriter(BOUNDARY, Map.of());
+        InputStream in = new ByteArrayInputStream(BODY.getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThatThrownBy(() -> rewriter.transfer(in, new ByteArrayOutputStream(), 100))
+                .isInstanceOf(MultipartStreamRewriter.PayloadTooLargeException.class);
+    }
+
+    @Test
+    void extractsQuotedAndUnquotedBoundaries() {
+        assertThat(MultipartStreamRewriter.boundaryOf("multipart/form-data; boundary=abc123")).isEqualTo("abc123");
+        assertThat(MultipartStreamRewriter.boundaryOf("multipart/form-data; boundary=\"a b\"; charset=UTF-8")).isEqualTo("a b");
+        assertThat(MultipartStreamRewriter.boundaryOf("application/json")).isNull();
+    }
+
+    private static String rewrite(String body, int chunkSize) throws IOException {
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.ISO_8859_1))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, chunkSize));
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MultipartStreamRewriter(BOUNDARY, Map.of("file", "cv_file")).transfer(in, out, 1 << 20);
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -10,8 +10,4 @@ public class CandidateServiceApplication {
 		SpringApplication.run(CandidateServiceApplication.class, args);
 	}
 
-	@org.springframework.context.annotation.Bean
-	public org.springframework.web.client.RestTemplate restTemplate() {
-		return new org.springframework.web.client.RestTemplate();
-	}
 }
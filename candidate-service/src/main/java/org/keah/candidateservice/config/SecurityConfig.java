@@ -22,6 +22,8 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/candidates/internal").permitAll()
+                        // Every stored CV at once: only ai-service's own token may read it
+                        .requestMatchers("/candidates/internal/cv-texts").hasRole("SERVICE")
                         .requestMatchers("/candidates/admin/**").permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -3,6 +3,7 @@ package org.keah.candidateservice.controller;
 import lombok.RequiredArgsConstructor;
 import org.keah.candidateservice.dto.CandidateRequest;
 import org.keah.candidateservice.dto.CandidateUpdateRequest;
+import org.keah.candidateservice.dto.CvTextResponse;
 import org.keah.candidateservice.entity.Candidate;
 import org.keah.candidateservice.service.CandidateService;
 import org.springframework.core.io.Resource;
@@ -13,6 +14,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,6 +32,16 @@ public class CandidateController {
         return candidateService.createCandidate(request);
     }
 
+    // =============================
+    // 🔁 APPEL INTERNE AI-SERVICE (BM25 corpus, service token only)
+    // =============================
+    @GetMapping("/internal/cv-texts")
+    public List<CvTextResponse> getCvTexts(
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(defaultValue = "100") int size) {
+        return candidateService.getCvTexts(afterId, size);
+    }
+
     // =============================
     // 🔐 GET PROFILE CONNECTÉ
     // =============================
@@ -0,0 +1,16 @@
+package org.keah.candidateservice.dto;
+
+import lombok.*;
+
+/**
+ * Stored CV text of one candidate, as read by ai-service to build its BM25 corpus.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CvTextResponse {
+
+    private Long id;
+    private String cvText;
+}
@@ -1,7 +1,11 @@
 package org.keah.candidateservice.repository;
 
+import org.keah.candidateservice.dto.CvTextResponse;
 import org.keah.candidateservice.entity.Candidate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +18,9 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     java.util.List<Candidate> findByCvTextIsNull();
 
     java.util.List<Candidate> findByCvStoragePathIsNotNullAndCvTextIsNull();
+
+    // Keyset page over the primary key: each call seeks past the last id of the previous page
+    @Query("SELECT new org.keah.candidateservice.dto.CvTextResponse(c.id, c.cvText) FROM Candidate c "
+            + "WHERE c.id > :afterId AND c.cvText IS NOT NULL ORDER BY c.id")
+    java.util.List<CvTextResponse> findCvTextsAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -5,10 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.keah.candidateservice.config.FileStorageConfig;
 import org.keah.candidateservice.dto.CandidateRequest;
 import org.keah.candidateservice.dto.CandidateUpdateRequest;
+import org.keah.candidateservice.dto.CvTextResponse;
 import org.keah.candidateservice.entity.Candidate;
 import org.keah.candidateservice.repository.CandidateRepository;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -33,6 +35,9 @@ public class CandidateService {
     @org.springframework.beans.factory.annotation.Value("${ai.service.url:http://localhost:8888/ai}")
     private String aiServiceUrl;
 
+    @org.springframework.beans.factory.annotation.Value("${candidates.cv-texts.max-page-size:500}")
+    private int maxCvTextPageSize;
+
     // =============================
     // 🔁 EXISTING: Create from Auth-Service
     // =============================
@@ -222,6 +227,14 @@ public class CandidateService {
         return candidate.getCvFileName();
     }
 
+    // =============================
+    // 🔁 INTERNAL: Stored CV texts for ai-service
+    // =============================
+    public java.util.List<CvTextResponse> getCvTexts(Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxCvTextPageSize));
+        return candidateRepository.findCvTextsAfter(afterId, Limit.of(pageSize));
+    }
+
     // =============================
     // 🔧 ADMIN: Batch Process Missing CVs
     // =============================
@@ -0,0 +1,56 @@
+package org.keah.offerservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived replay cache for requests carrying an {@code Idempotency-Key} header.
+ * The first request for a key runs the action; concurrent duplicates wait for it and later
+ * ones get the same result back until the entry expires. Failures are not remembered, so a
+ * client may retry a request that failed.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final Cache<String, CompletableFuture<Object>> results;
+
+    public IdempotencyCache(
+            @Value("${offers.idempotency.max-keys:100000}") long maxKeys,
+            @Value("${offers.idempotency.ttl:10m}") Duration ttl) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> action) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = results.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        // The action runs on the caller's thread, outside the cache's locks
+        try {
+            T result = action.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            results.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.keah.offerservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.repository.OfferApplyTarget;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Active flag and owner of the offers candidates apply to, so a burst of applications to one
+ * offer does not re-read the same row for every click. Entries are dropped when the offer
+ * changes; the TTL only bounds staleness if an event is ever missed.
+ */
+@Component
+public class OfferApplyCache {
+
+    private final OfferRepository offerRepository;
+    private final Cache<Long, OfferApplyTarget> targets;
+
+    public OfferApplyCache(
+            OfferRepository offerRepository,
+            @Value("${offers.apply.offer-cache-size:10000}") long maxSize,
+            @Value("${offers.apply.offer-cache-ttl:30s}") Duration ttl) {
+        this.offerRepository = offerRepository;
+        this.targets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * @return the offer, or {@code null} if it does not exist (misses are not cached)
+     */
+    public OfferApplyTarget get(Long offerId) {
+        return targets.get(offerId, id -> offerRepository.findApplyTargetById(id).orElse(null));
+    }
+
+    @TransactionalEventListener
+    public void onOfferChanged(OfferChangedEvent event) {
+        targets.invalidateAll(event.offerIds());
+    }
+}
@@ -0,0 +1,69 @@
+package org.keah.offerservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of offer responses already encoded as JSON, each with a strong ETag,
+ * so a hit costs neither a query nor a Jackson pass. Single offers are invalidated by id;
+ * listing pages (which also carry facet counts) are all dropped on any offer change.
+ */
+@Component
+public class OfferJsonCache {
+
+    public record CachedJson(byte[] body, String etag) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedJson> offers;
+    private final Cache<String, CachedJson> listings;
+    // Part of every listing key: a page computed before an invalidation can never be read after it
+    private final AtomicLong listingGeneration = new AtomicLong();
+
+    public OfferJsonCache(
+            ObjectMapper objectMapper,
+            @Value("${offers.cache.max-offers:50000}") long maxOffers,
+            @Value("${offers.cache.max-listing-pages:1000}") long maxListingPages) {
+        this.objectMapper = objectMapper;
+        this.offers = Caffeine.newBuilder().maximumSize(maxOffers).build();
+        this.listings = Caffeine.newBuilder().maximumSize(maxListingPages).build();
+    }
+
+    /**
+     * Caffeine blocks an invalidation of this id until an in-progress load has finished, so a
+     * load racing a write cannot leave the old version behind.
+     */
+    public CachedJson offer(Long offerId, Supplier<?> loader) {
+        return offers.get(offerId, id -> encode(loader.get()));
+    }
+
+    public CachedJson listing(String queryKey, Supplier<?> loader) {
+        return listings.get(listingGeneration.get() + "|" + queryKey, key -> encode(loader.get()));
+    }
+
+    @TransactionalEventListener
+    public void onOfferChanged(OfferChangedEvent event) {
+        listingGeneration.incrementAndGet();
+        listings.invalidateAll();
+        offers.invalidateAll(event.offerIds());
+    }
+
+    private CachedJson encode(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new CachedJson(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize offer response: " + e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package org.keah.offerservice.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.keah.offerservice.cache.IdempotencyCache;
+import org.keah.offerservice.cache.OfferJsonCache;
 import org.keah.offerservice.dto.ApplicationResponse;
 import org.keah.offerservice.dto.ApplicationStatusRequest;
+import org.keah.offerservice.dto.BulkStatusRequest;
+import org.keah.offerservice.dto.BulkStatusResult;
+import org.keah.offerservice.dto.CursorPage;
+import org.keah.offerservice.dto.OfferFilter;
 import org.keah.offerservice.dto.OfferRequest;
 import org.keah.offerservice.dto.OfferResponse;
 import org.keah.offerservice.dto.RecruiterStatsResponse;
+import org.keah.offerservice.notification.CandidateEventRegistry;
+import org.keah.offerservice.service.ApplicationExportService;
+import org.keah.offerservice.service.OfferBulkImportService;
 import org.keah.offerservice.service.OfferService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -22,33 +38,84 @@ import java.util.Map;
 public class OfferController {
 
     private final OfferService offerService;
+    private final OfferJsonCache offerJsonCache;
+    private final OfferBulkImportService offerBulkImportService;
+    private final IdempotencyCache idempotencyCache;
+    private final ApplicationExportService applicationExportService;
+    private final CandidateEventRegistry candidateEventRegistry;
 
     // =============================
     // 📋 LIST ALL ACTIVE OFFERS (for candidates)
     // =============================
     @GetMapping
-    public ResponseEntity<List<OfferResponse>> getAllOffers() {
-        List<OfferResponse> offers = offerService.getAllActiveOffers();
-        return ResponseEntity.ok(offers);
+    public ResponseEntity<?> getAllOffers(
+            @ModelAttribute OfferFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            String queryKey = filter + "|" + cursor + "|" + size + "|" + direction;
+            return json(offerJsonCache.listing(queryKey,
+                    () -> offerService.getAllActiveOffers(filter, cursor, size, direction)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // =============================
+    // 📋 LIST ALL OFFERS, ACTIVE OR NOT (for admin)
+    // =============================
+    @GetMapping("/all")
+    public ResponseEntity<?> getAllOffersIncludingInactive(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            CursorPage<OfferResponse> offers = offerService.getAllOffers(cursor, size, direction);
+            return ResponseEntity.ok(offers);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // =============================
+    // 🔎 SEARCH ACTIVE OFFERS BY KEYWORD
+    // =============================
+    @GetMapping("/search")
+    public ResponseEntity<?> searchOffers(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer size) {
+        try {
+            List<OfferResponse> offers = offerService.searchOffers(query, size);
+            return ResponseEntity.ok(offers);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     // =============================
     // 🔍 GET OFFER BY ID
     // =============================
     @GetMapping("/{id}")
-    public ResponseEntity<OfferResponse> getOfferById(@PathVariable Long id) {
-        OfferResponse offer = offerService.getOfferById(id);
-        return ResponseEntity.ok(offer);
+    public ResponseEntity<byte[]> getOfferById(@PathVariable Long id) {
+        return json(offerJsonCache.offer(id, () -> offerService.getOfferById(id)));
     }
 
     // =============================
     // 📋 GET MY OFFERS (for recruiters)
     // =============================
     @GetMapping("/my-offers")
-    public ResponseEntity<List<OfferResponse>> getMyOffers() {
+    public ResponseEntity<?> getMyOffers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String direction) {
         String email = getConnectedEmail();
-        List<OfferResponse> offers = offerService.getOffersByRecruiter(email);
-        return ResponseEntity.ok(offers);
+        try {
+            CursorPage<OfferResponse> offers = offerService.getOffersByRecruiter(email, cursor, size, direction);
+            return ResponseEntity.ok(offers);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     // =============================
@@ -61,6 +128,26 @@ public class OfferController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    // =============================
+    // 📥 BULK IMPORT OFFERS (for recruiters)
+    // =============================
+    // Body is NDJSON or CSV; the response streams one NDJSON result line per input row
+    @PostMapping(value = "/bulk", consumes = { "application/x-ndjson", "text/csv" }, produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> bulkImportOffers(HttpServletRequest request) {
+        String email = getConnectedEmail();
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.valueOf("text/csv"));
+        StreamingResponseBody body = out -> {
+            if (csv) {
+                offerBulkImportService.importCsv(email, request.getInputStream(), out);
+            } else {
+                offerBulkImportService.importNdjson(email, request.getInputStream(), out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     // =============================
     // ✏️ UPDATE OFFER (for recruiters)
     // =============================
@@ -79,10 +166,14 @@ public class OfferController {
     // 🗑️ DELETE OFFER (for recruiters)
     // =============================
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteOffer(@PathVariable Long id) {
+    public ResponseEntity<?> deleteOffer(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean async) {
         String email = getConnectedEmail();
         try {
-            offerService.deleteOffer(email, id);
+            if (offerService.deleteOffer(email, id, async)) {
+                return ResponseEntity.accepted().body(Map.of("message", "Offer deactivated, deletion in progress"));
+            }
             return ResponseEntity.ok(Map.of("message", "Offer deleted successfully"));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
@@ -93,12 +184,27 @@ public class OfferController {
     // 📝 APPLY TO OFFER (for candidates)
     // =============================
     @PostMapping("/{id}/apply")
-    public ResponseEntity<?> applyToOffer(@PathVariable Long id) {
+    public ResponseEntity<?> applyToOffer(
+            @PathVariable Long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         String email = getConnectedEmail();
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 255)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Idempotency-Key must be 1 to 255 characters",
+                    "offerId", id));
+        }
 
         try {
-            ApplicationResponse application = offerService.applyToOffer(email, id);
+            // A retried request with the same key gets the original response back
+            ApplicationResponse application = idempotencyKey == null
+                    ? offerService.applyToOffer(email, id)
+                    : idempotencyCache.execute(email + "|" + id + "|" + idempotencyKey,
+                            () -> offerService.applyToOffer(email, id));
             return ResponseEntity.status(HttpStatus.CREATED).body(application);
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of(
+                    "error", e.getReason(),
+                    "offerId", id));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", e.getMessage(),
@@ -110,12 +216,23 @@ public class OfferController {
     // 📋 GET MY APPLICATIONS (for candidates)
     // =============================
     @GetMapping("/my-applications")
-    public ResponseEntity<List<ApplicationResponse>> getMyApplications() {
+    public ResponseEntity<List<ApplicationResponse>> getMyApplications(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         String email = getConnectedEmail();
-        List<ApplicationResponse> applications = offerService.getMyApplications(email);
+        List<ApplicationResponse> applications = offerService.getMyApplications(email, includeArchived);
         return ResponseEntity.ok(applications);
     }
 
+    // =============================
+    // 📡 APPLICATION STATUS EVENTS (for candidates)
+    // =============================
+    // One long-lived SSE stream instead of polling /my-applications for status changes
+    @GetMapping(value = "/my-applications/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter myApplicationEvents() {
+        String email = getConnectedEmail();
+        return candidateEventRegistry.subscribe(email);
+    }
+
     // =============================
     // 📋 GET APPLICATIONS FOR OFFER (for recruiters)
     // =============================
@@ -125,6 +242,38 @@ public class OfferController {
         return ResponseEntity.ok(applications);
     }
 
+    // =============================
+    // 📤 EXPORT APPLICATIONS FOR OFFER (for recruiters)
+    // =============================
+    @GetMapping("/{id}/applications/export")
+    public ResponseEntity<?> exportApplications(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Format must be csv or ndjson"));
+        }
+        String email = getConnectedEmail();
+        try {
+            applicationExportService.checkCanExport(email, id);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
+        }
+
+        StreamingResponseBody body = out -> {
+            if (csv) {
+                applicationExportService.exportCsv(id, out);
+            } else {
+                applicationExportService.exportNdjson(id, out);
+            }
+        };
+        String filename = "offer-" + id + "-applications." + (csv ? "csv" : "ndjson");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? "text/csv" : "application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // =============================
     // ✅ UPDATE APPLICATION STATUS (for recruiters)
     // =============================
@@ -141,6 +290,25 @@ public class OfferController {
         }
     }
 
+    // =============================
+    // ✅ BULK UPDATE APPLICATION STATUS (for recruiters)
+    // =============================
+    @PutMapping("/applications/status")
+    public ResponseEntity<?> bulkUpdateApplicationStatus(@Valid @RequestBody BulkStatusRequest request) {
+        boolean byIds = request.getApplicationIds() != null && !request.getApplicationIds().isEmpty();
+        if (byIds == (request.getOfferId() != null)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Provide either applicationIds or offerId"));
+        }
+        String email = getConnectedEmail();
+        try {
+            List<BulkStatusResult> results = offerService.bulkUpdateApplicationStatus(email, request);
+            return ResponseEntity.ok(results);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // =============================
     // 📊 GET RECRUITER STATS (for dashboard)
     // =============================
@@ -151,6 +319,17 @@ public class OfferController {
         return ResponseEntity.ok(stats);
     }
 
+    // =============================
+    // 🔧 HELPER: Serve cached JSON
+    // =============================
+    // Spring answers 304 by itself when the ETag matches If-None-Match
+    private ResponseEntity<byte[]> json(OfferJsonCache.CachedJson cached) {
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
+    }
+
     // =============================
     // 🔧 HELPER: Get connected user email
     // =============================
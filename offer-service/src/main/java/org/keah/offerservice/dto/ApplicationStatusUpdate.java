@@ -0,0 +1,7 @@
+package org.keah.offerservice.dto;
+
+/**
+ * Payload of a "status" event on GET /offers/my-applications/events.
+ */
+public record ApplicationStatusUpdate(Long applicationId, Long offerId, String status) {
+}
@@ -0,0 +1,32 @@
+package org.keah.offerservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One line of the POST /offers/bulk response: the outcome of input row {@code row} (1-based,
+ * header excluded). {@code id} is set for CREATED rows, {@code errors} for INVALID/FAILED ones.
+ * ABORTED is only ever the last line, when the import stopped early; its row is the last one read.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportResult(long row, Status status, Long id, List<String> errors) {
+
+    public enum Status { CREATED, INVALID, FAILED, ABORTED }
+
+    public static BulkImportResult created(long row, Long id) {
+        return new BulkImportResult(row, Status.CREATED, id, null);
+    }
+
+    public static BulkImportResult invalid(long row, List<String> errors) {
+        return new BulkImportResult(row, Status.INVALID, null, errors);
+    }
+
+    public static BulkImportResult failed(long row, String error) {
+        return new BulkImportResult(row, Status.FAILED, null, List.of(error));
+    }
+
+    public static BulkImportResult aborted(long row, String error) {
+        return new BulkImportResult(row, Status.ABORTED, null, List.of(error));
+    }
+}
@@ -0,0 +1,29 @@
+package org.keah.offerservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Body of PUT /offers/applications/status. Targets either explicit {@code applicationIds} or
+ * every application of {@code offerId}, optionally narrowed to those in {@code currentStatus}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusRequest {
+
+    private List<Long> applicationIds;
+
+    private Long offerId;
+
+    @Pattern(regexp = "^(PENDING|ACCEPTED|REJECTED)$", message = "Current status must be PENDING, ACCEPTED or REJECTED")
+    private String currentStatus;
+
+    @NotBlank(message = "Status is required")
+    @Pattern(regexp = "^(ACCEPTED|REJECTED)$", message = "Status must be ACCEPTED or REJECTED")
+    private String status;
+}
@@ -0,0 +1,9 @@
+package org.keah.offerservice.dto;
+
+/**
+ * Per-application outcome of a bulk status change.
+ */
+public record BulkStatusResult(Long applicationId, Outcome outcome) {
+
+    public enum Outcome { UPDATED, UNCHANGED, NOT_FOUND, FORBIDDEN }
+}
@@ -0,0 +1,21 @@
+package org.keah.offerservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor; // null on the last page; pass back as ?cursor= for the next one
+    private int size;
+
+    // facet -> value -> matching count; only on listings that support filtering
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,22 @@
+package org.keah.offerservice.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional listing filters, bound from query parameters. Unset fields do not filter.
+ * Offers without a salary never match a salary bound; offers without an expiration date
+ * count as never expiring.
+ */
+public record OfferFilter(
+        String domain,
+        String contractType,
+        String location,
+        Double minSalary,
+        Double maxSalary,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresAfter,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresBefore
+) {
+    public static final OfferFilter NONE = new OfferFilter(null, null, null, null, null, null, null);
+}
@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = { "candidateEmail",
-        "offer_id" }, name = "uk_candidate_offer"))
+        "offer_id" }, name = "uk_candidate_offer"), indexes = {
+        // Archiver: cold rows by status and age
+        @Index(name = "idx_applications_status_date", columnList = "status, applicationDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
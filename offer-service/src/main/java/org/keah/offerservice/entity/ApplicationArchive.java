@@ -0,0 +1,42 @@
+package org.keah.offerservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An application moved out of the hot {@code applications} table. Offer title, company and
+ * owner are copied in, so the row stays readable after the offer itself is deleted.
+ */
+@Entity
+@Table(name = "applications_archive", indexes = {
+        @Index(name = "idx_archive_candidate", columnList = "candidateEmail, applicationDate"),
+        @Index(name = "idx_archive_offer", columnList = "offerId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationArchive {
+
+    @Id
+    private Long id; // Same id the row had in applications
+
+    @Column(nullable = false)
+    private String candidateEmail;
+
+    @Column(nullable = false)
+    private Long offerId; // No foreign key: the offer may be gone
+
+    private String offerTitle;
+    private String company;
+    private String recruiterEmail;
+
+    private LocalDateTime applicationDate;
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -7,7 +7,13 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "offers")
+@Table(name = "offers", indexes = {
+        // Keyset pagination seeks on (publishedDate, id) within each listing's filter
+        @Index(name = "idx_offers_active_published", columnList = "active, publishedDate, id"),
+        @Index(name = "idx_offers_recruiter_published", columnList = "recruiterEmail, publishedDate, id"),
+        // Expiration sweeper: range scan of still-active offers past their date
+        @Index(name = "idx_offers_active_expiration", columnList = "active, expirationDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
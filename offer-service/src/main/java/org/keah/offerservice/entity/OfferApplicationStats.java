@@ -0,0 +1,42 @@
+package org.keah.offerservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Materialized application count per (offer, status), kept in step by OfferService in the
+ * same transaction as the application write. recruiterEmail is copied from the offer so the
+ * dashboard reads one recruiter's rows through a single index.
+ */
+@Entity
+@Table(name = "offer_application_stats", indexes = @Index(name = "idx_stats_recruiter", columnList = "recruiterEmail"))
+@IdClass(OfferApplicationStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferApplicationStats {
+
+    @Id
+    private Long offerId;
+
+    @Id
+    @Column(length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private String recruiterEmail;
+
+    private long applicationCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long offerId;
+        private String status;
+    }
+}
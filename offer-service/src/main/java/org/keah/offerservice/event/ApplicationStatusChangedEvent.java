@@ -0,0 +1,20 @@
+package org.keah.offerservice.event;
+
+import org.keah.offerservice.dto.ApplicationStatusUpdate;
+
+import java.util.List;
+
+/**
+ * Published by OfferService when recruiters change application statuses, one event per
+ * request (a bulk change carries all its rows). Listeners receive it after the commit.
+ */
+public record ApplicationStatusChangedEvent(List<Change> changes) {
+
+    public record Change(String candidateEmail, ApplicationStatusUpdate update) {
+    }
+
+    public static ApplicationStatusChangedEvent of(String candidateEmail, Long applicationId, Long offerId, String status) {
+        return new ApplicationStatusChangedEvent(List.of(
+                new Change(candidateEmail, new ApplicationStatusUpdate(applicationId, offerId, status))));
+    }
+}
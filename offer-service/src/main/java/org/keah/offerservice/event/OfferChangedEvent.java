@@ -0,0 +1,16 @@
+package org.keah.offerservice.event;
+
+import java.util.List;
+
+/**
+ * Published by OfferService whenever offers are written, so derived read models (search index,
+ * caches) can follow the table. Listeners receive it after the transaction commits.
+ */
+public record OfferChangedEvent(List<Long> offerIds, Type type) {
+
+    public enum Type { CREATED, UPDATED, DELETED, DEACTIVATED }
+
+    public static OfferChangedEvent of(Long offerId, Type type) {
+        return new OfferChangedEvent(List.of(offerId), type);
+    }
+}
@@ -0,0 +1,8 @@
+package org.keah.offerservice.event;
+
+/**
+ * Published by OfferService when an offer is too large to delete inside the request: the offer
+ * is already deactivated, and its applications are archived in the background after commit.
+ */
+public record OfferDeletionRequestedEvent(Long offerId) {
+}
@@ -0,0 +1,222 @@
+package org.keah.offerservice.facet;
+
+import org.keah.offerservice.dto.OfferFilter;
+import org.keah.offerservice.repository.OfferFacetRow;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bitmap indexes over offers. Every offer gets a dense ordinal; each facet value owns a
+ * {@link BitSet} of the ordinals carrying it, and salary/expiration live in parallel arrays.
+ * Values are matched case-insensitively, like the MySQL collation, and reported with the
+ * spelling first seen. Not thread-safe; {@link OfferFacetIndex} guards it.
+ */
+final class FacetBitmaps {
+
+    enum Facet {
+        DOMAIN("domain"), CONTRACT_TYPE("contractType"), LOCATION("location");
+
+        final String field;
+
+        Facet(String field) {
+            this.field = field;
+        }
+    }
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet active = new BitSet();
+    private final BitSet freeOrdinals = new BitSet();
+    private int nextOrdinal;
+
+    private double[] salaries = new double[1024];
+    private long[] expirations = new long[1024];
+
+    private final EnumMap<Facet, Map<String, BitSet>> valueBitmaps = new EnumMap<>(Facet.class);
+    private final EnumMap<Facet, Map<String, String>> labels = new EnumMap<>(Facet.class);
+    private final EnumMap<Facet, String[]> keysByOrdinal = new EnumMap<>(Facet.class);
+
+    FacetBitmaps() {
+        for (Facet facet : Facet.values()) {
+            valueBitmaps.put(facet, new HashMap<>());
+            labels.put(facet, new HashMap<>());
+            keysByOrdinal.put(facet, new String[1024]);
+        }
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    void upsert(OfferFacetRow row) {
+        Integer existing = ordinals.get(row.id());
+        int ordinal = existing != null ? existing : allocate(row.id());
+        if (existing != null) {
+            clearFacetBits(ordinal);
+        }
+
+        live.set(ordinal);
+        active.set(ordinal, row.active());
+        salaries[ordinal] = row.salary() != null ? row.salary() : Double.NaN;
+        expirations[ordinal] = row.expirationDate() != null ? row.expirationDate().toEpochDay() : NO_EXPIRATION;
+        setFacet(Facet.DOMAIN, ordinal, row.domain());
+        setFacet(Facet.CONTRACT_TYPE, ordinal, row.contractType());
+        setFacet(Facet.LOCATION, ordinal, row.location());
+    }
+
+    void remove(Long offerId) {
+        Integer ordinal = ordinals.remove(offerId);
+        if (ordinal == null) {
+            return;
+        }
+        clearFacetBits(ordinal);
+        live.clear(ordinal);
+        active.clear(ordinal);
+        freeOrdinals.set(ordinal);
+    }
+
+    /**
+     * Per-facet value counts for the offers matching {@code filter}. Each facet is counted with
+     * every filter applied except its own, so the client can still see the alternatives.
+     */
+    Map<String, Map<String, Long>> counts(OfferFilter filter, boolean activeOnly, int maxValuesPerFacet) {
+        BitSet base = (BitSet) (activeOnly ? active : live).clone();
+        applyRanges(base, filter);
+
+        EnumMap<Facet, BitSet> selections = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            String selected = selectedValue(facet, filter);
+            if (selected != null) {
+                BitSet bits = valueBitmaps.get(facet).get(key(selected));
+                selections.put(facet, bits != null ? bits : new BitSet());
+            }
+        }
+
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (Facet facet : Facet.values()) {
+            BitSet scope = (BitSet) base.clone();
+            selections.forEach((other, bits) -> {
+                if (other != facet) {
+                    scope.and(bits);
+                }
+            });
+            result.put(facet.field, countValues(facet, scope, maxValuesPerFacet));
+        }
+        return result;
+    }
+
+    private Map<String, Long> countValues(Facet facet, BitSet scope, int maxValues) {
+        Map<String, Long> counts = new HashMap<>();
+        BitSet intersection = new BitSet();
+        valueBitmaps.get(facet).forEach((key, bits) -> {
+            intersection.clear();
+            intersection.or(bits);
+            intersection.and(scope);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(labels.get(facet).get(key), (long) count);
+            }
+        });
+
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxValues)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private void applyRanges(BitSet bits, OfferFilter filter) {
+        boolean salaryBound = filter.minSalary() != null || filter.maxSalary() != null;
+        boolean expirationBound = filter.expiresAfter() != null || filter.expiresBefore() != null;
+        if (!salaryBound && !expirationBound) {
+            return;
+        }
+        double minSalary = filter.minSalary() != null ? filter.minSalary() : Double.NEGATIVE_INFINITY;
+        double maxSalary = filter.maxSalary() != null ? filter.maxSalary() : Double.POSITIVE_INFINITY;
+        long expiresAfter = filter.expiresAfter() != null ? filter.expiresAfter().toEpochDay() : Long.MIN_VALUE;
+        long expiresBefore = filter.expiresBefore() != null ? filter.expiresBefore().toEpochDay() : NO_EXPIRATION;
+
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            // NaN (no salary) fails both comparisons, so it is excluded whenever a bound is set
+            boolean keep = !salaryBound || (salaries[i] >= minSalary && salaries[i] <= maxSalary);
+            // Offers that never expire sort after every date: kept by expiresAfter, dropped by expiresBefore
+            keep &= expirations[i] >= expiresAfter && expirations[i] <= expiresBefore;
+            if (!keep) {
+                bits.clear(i);
+            }
+        }
+    }
+
+    private static String selectedValue(Facet facet, OfferFilter filter) {
+        return switch (facet) {
+            case DOMAIN -> filter.domain();
+            case CONTRACT_TYPE -> filter.contractType();
+            case LOCATION -> filter.location();
+        };
+    }
+
+    private int allocate(Long offerId) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal >= 0) {
+            freeOrdinals.clear(ordinal);
+        } else {
+            ordinal = nextOrdinal++;
+            ensureCapacity(ordinal + 1);
+        }
+        ordinals.put(offerId, ordinal);
+        return ordinal;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= salaries.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, salaries.length * 2);
+        salaries = Arrays.copyOf(salaries, newLength);
+        expirations = Arrays.copyOf(expirations, newLength);
+        keysByOrdinal.replaceAll((facet, keys) -> Arrays.copyOf(keys, newLength));
+    }
+
+    private void setFacet(Facet facet, int ordinal, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        String key = key(value);
+        valueBitmaps.get(facet).computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+        labels.get(facet).putIfAbsent(key, value.trim());
+        keysByOrdinal.get(facet)[ordinal] = key;
+    }
+
+    private void clearFacetBits(int ordinal) {
+        for (Facet facet : Facet.values()) {
+            String[] keys = keysByOrdinal.get(facet);
+            String key = keys[ordinal];
+            if (key == null) {
+                continue;
+            }
+            Map<String, BitSet> bitmaps = valueBitmaps.get(facet);
+            BitSet bits = bitmaps.get(key);
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+                labels.get(facet).remove(key);
+            }
+            keys[ordinal] = null;
+        }
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package org.keah.offerservice.facet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.dto.OfferFilter;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.repository.OfferFacetRow;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet counts for offer listings, served from in-memory bitmaps instead of GROUP BY queries.
+ * Loaded from the table on startup and then patched from {@link OfferChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OfferFacetIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final OfferRepository offerRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Changes committed while a rebuild is reading the table; replayed onto the new bitmaps
+    private final Queue<OfferChangedEvent> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private FacetBitmaps bitmaps = new FacetBitmaps();
+    private volatile boolean rebuilding;
+
+    @Value("${offers.facets.max-values:50}")
+    private int maxValuesPerFacet;
+
+    public Map<String, Map<String, Long>> activeOfferCounts(OfferFilter filter) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.counts(filter, true, maxValuesPerFacet);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =============================
+    // 🔁 FULL LOAD ON STARTUP
+    // =============================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        FacetBitmaps fresh = new FacetBitmaps();
+
+        long lastId = 0;
+        List<OfferFacetRow> rows;
+        while (!(rows = offerRepository.findFacetRowsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE))).isEmpty()) {
+            rows.forEach(fresh::upsert);
+            lastId = rows.get(rows.size() - 1).id();
+        }
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        OfferChangedEvent missed;
+        while ((missed = changesDuringRebuild.poll()) != null) {
+            apply(missed);
+        }
+        log.info("Offer facet index loaded: {} offers in {} ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    // =============================
+    // ✏️ INCREMENTAL UPDATES
+    // =============================
+    @TransactionalEventListener
+    public void onOfferChanged(OfferChangedEvent event) {
+        try {
+            // Queue before applying: whichever bitmaps this lands on, the new ones will see it
+            if (rebuilding) {
+                changesDuringRebuild.add(event);
+            }
+            apply(event);
+        } catch (RuntimeException e) {
+            log.error("Could not update facet index for offers {}: {}", event.offerIds(), e.getMessage());
+        }
+    }
+
+    private void apply(OfferChangedEvent event) {
+        List<OfferFacetRow> rows = event.type() == OfferChangedEvent.Type.DELETED
+                ? List.of()
+                : offerRepository.findFacetRowsByIdIn(event.offerIds());
+
+        lock.writeLock().lock();
+        try {
+            if (event.type() == OfferChangedEvent.Type.DELETED) {
+                event.offerIds().forEach(bitmaps::remove);
+            } else {
+                rows.forEach(bitmaps::upsert);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.keah.offerservice.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.event.ApplicationStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory registry of candidates' SSE connections. Each connection has a bounded queue,
+ * drained by a small sender pool, so the thread committing a status change never waits on a
+ * slow client; a client that falls {@code buffer-size} events behind is disconnected and
+ * reloads its applications when it reconnects. Heartbeat comments keep idle connections open
+ * through proxies.
+ * <p>
+ * Connections are per instance: a candidate hears about changes committed on the instance
+ * they are connected to, and picks up the rest from GET /offers/my-applications on reconnect.
+ */
+@Component
+@Slf4j
+public class CandidateEventRegistry {
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final int maxPerCandidate;
+    private final long timeoutMillis;
+    private final Counter overflows;
+
+    public CandidateEventRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${offers.notifications.buffer-size:64}") int bufferSize,
+            @Value("${offers.notifications.max-connections:10000}") int maxConnections,
+            @Value("${offers.notifications.max-per-candidate:5}") int maxPerCandidate,
+            @Value("${offers.notifications.timeout:30m}") Duration timeout,
+            @Value("${offers.notifications.sender-threads:4}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.maxPerCandidate = maxPerCandidate;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("offers.notifications.connections", connections, AtomicInteger::get)
+                .description("Open candidate SSE connections")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("offers.notifications.overflows")
+                .description("Connections dropped because the client fell too far behind")
+                .register(meterRegistry);
+    }
+
+    // =============================
+    // 📡 SUBSCRIBE
+    // =============================
+    public SseEmitter subscribe(String candidateEmail) {
+        Set<Subscriber> own = subscribers.computeIfAbsent(candidateEmail, k -> ConcurrentHashMap.newKeySet());
+        if (own.size() >= maxPerCandidate) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many open event streams");
+        }
+        if (connections.get() >= maxConnections) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Event streams are at capacity");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(candidateEmail, emitter);
+        own.add(subscriber);
+        connections.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> remove(subscriber));
+
+        // Commits the response headers right away, so the client knows it is connected
+        subscriber.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // =============================
+    // 📣 PUBLISH (after commit)
+    // =============================
+    @TransactionalEventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        for (ApplicationStatusChangedEvent.Change change : event.changes()) {
+            Set<Subscriber> own = subscribers.get(change.candidateEmail());
+            if (own == null) {
+                continue;
+            }
+            for (Subscriber subscriber : own) {
+                subscriber.enqueue(SseEmitter.event()
+                        .name("status")
+                        .data(change.update(), MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${offers.notifications.heartbeat-interval:PT25S}",
+            initialDelayString = "${offers.notifications.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        subscribers.values().forEach(own -> own.forEach(
+                subscriber -> subscriber.enqueue(SseEmitter.event().comment("keepalive"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(own -> own.forEach(Subscriber::close));
+        sender.shutdownNow();
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> own = subscribers.get(subscriber.candidateEmail);
+        if (own != null && own.remove(subscriber)) {
+            connections.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.candidateEmail, (k, set) -> set.isEmpty() ? null : set);
+        }
+    }
+
+    /**
+     * One open connection: its pending events and whether a sender is currently draining them.
+     */
+    private final class Subscriber {
+
+        private final String candidateEmail;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(String candidateEmail, SseEmitter emitter) {
+            this.candidateEmail = candidateEmail;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                overflows.increment();
+                log.debug("Dropping event stream of {}: {} events behind", candidateEmail, bufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or emitter already completed
+                closed = true;
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            // An event queued between the last poll and the reset above still needs a sender
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.keah.offerservice.repository;
+
+import org.keah.offerservice.dto.ApplicationResponse;
+import org.keah.offerservice.entity.ApplicationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ApplicationArchiveRepository extends JpaRepository<ApplicationArchive, Long> {
+
+    @Query("SELECT new org.keah.offerservice.dto.ApplicationResponse(a.id, a.offerId, a.offerTitle, a.company, a.candidateEmail, a.applicationDate, a.status) "
+            + "FROM ApplicationArchive a WHERE a.candidateEmail = :email")
+    List<ApplicationResponse> findResponsesByCandidateEmail(@Param("email") String candidateEmail);
+
+    // ========== COPY FROM applications ==========
+    // Set-based copies; the caller deletes the same rows from applications in the same transaction
+    @Modifying
+    @Query(value = "INSERT INTO applications_archive "
+            + "(id, candidate_email, offer_id, offer_title, company, recruiter_email, application_date, status, archived_at) "
+            + "SELECT a.id, a.candidate_email, a.offer_id, o.title, o.company, o.recruiter_email, a.application_date, a.status, :archivedAt "
+            + "FROM applications a JOIN offers o ON o.id = a.offer_id WHERE a.offer_id = :offerId", nativeQuery = true)
+    int copyByOfferId(@Param("offerId") Long offerId, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO applications_archive "
+            + "(id, candidate_email, offer_id, offer_title, company, recruiter_email, application_date, status, archived_at) "
+            + "SELECT a.id, a.candidate_email, a.offer_id, o.title, o.company, o.recruiter_email, a.application_date, a.status, :archivedAt "
+            + "FROM applications a JOIN offers o ON o.id = a.offer_id WHERE a.id IN (:ids)", nativeQuery = true)
+    int copyByIdIn(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
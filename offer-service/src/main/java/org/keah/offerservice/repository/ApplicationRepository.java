@@ -1,18 +1,51 @@
 package org.keah.offerservice.repository;
 
+import org.keah.offerservice.dto.ApplicationResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.keah.offerservice.entity.Application;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
 
     boolean existsByCandidateEmailAndOfferId(String candidateEmail, Long offerId);
 
-    void deleteByOfferId(Long offerId);
+    long countByOfferId(Long offerId);
+
+    // Set-based: one DELETE statement, no entities loaded
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.offer.id = :offerId")
+    int deleteByOfferId(@Param("offerId") Long offerId);
+
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM Application a WHERE a.offer.id = :offerId ORDER BY a.id")
+    List<Long> findIdsByOfferId(@Param("offerId") Long offerId, Limit limit);
+
+    // ========== ARCHIVAL ==========
+    // Only applications to offers that no longer accept candidates: an archived row no longer
+    // holds uk_candidate_offer, so it must not let the candidate apply a second time
+    @Query("SELECT a.id FROM Application a JOIN a.offer o WHERE a.id > :afterId AND a.status IN :statuses "
+            + "AND a.applicationDate < :cutoff AND o.active = false ORDER BY a.id")
+    List<Long> findColdIdsAfter(@Param("afterId") Long afterId,
+                                @Param("statuses") Collection<String> statuses,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Limit limit);
 
     List<Application> findByCandidateEmail(String candidateEmail);
 
@@ -20,13 +53,37 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     Optional<Application> findByCandidateEmailAndOfferId(String candidateEmail, Long offerId);
 
-    // ========== RECRUITER STATS ==========
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.offer.recruiterEmail = :email")
-    long countByOfferRecruiterEmail(@Param("email") String email);
+    // ========== LISTING PROJECTIONS ==========
+    // Offer title/company come from the same join, so listing N applications is one statement
+    @Query("SELECT new org.keah.offerservice.dto.ApplicationResponse(a.id, o.id, o.title, o.company, a.candidateEmail, a.applicationDate, a.status) "
+            + "FROM Application a JOIN a.offer o WHERE a.candidateEmail = :email")
+    List<ApplicationResponse> findResponsesByCandidateEmail(@Param("email") String candidateEmail);
+
+    @Query("SELECT new org.keah.offerservice.dto.ApplicationResponse(a.id, o.id, o.title, o.company, a.candidateEmail, a.applicationDate, a.status) "
+            + "FROM Application a JOIN a.offer o WHERE o.id = :offerId")
+    List<ApplicationResponse> findResponsesByOfferId(@Param("offerId") Long offerId);
+
+    // ========== BULK STATUS ==========
+    // Rows stay locked until commit so the statuses read here are the ones the UPDATE replaces
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.keah.offerservice.repository.ApplicationTarget(a.id, o.id, o.recruiterEmail, a.candidateEmail, a.status) "
+            + "FROM Application a JOIN a.offer o WHERE a.id IN :ids")
+    List<ApplicationTarget> findTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.keah.offerservice.repository.ApplicationTarget(a.id, o.id, o.recruiterEmail, a.candidateEmail, a.status) "
+            + "FROM Application a JOIN a.offer o WHERE o.id = :offerId AND (:status IS NULL OR a.status = :status) ORDER BY a.id")
+    List<ApplicationTarget> findTargetsByOffer(@Param("offerId") Long offerId, @Param("status") String status);
 
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.offer.recruiterEmail = :email AND a.status = :status")
-    long countByOfferRecruiterEmailAndStatus(@Param("email") String email, @Param("status") String status);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
 
-    @Query("SELECT a FROM Application a WHERE a.offer.recruiterEmail = :email")
-    List<Application> findByOfferRecruiterEmail(@Param("email") String email);
+    // Forward-only read for exports: a fetch size of Integer.MIN_VALUE makes Connector/J stream this
+    // one result set row by row instead of buffering it, without changing any other query.
+    // Must be consumed inside a transaction that runs nothing else on the connection meanwhile.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.keah.offerservice.dto.ApplicationResponse(a.id, o.id, o.title, o.company, a.candidateEmail, a.applicationDate, a.status) "
+            + "FROM Application a JOIN a.offer o WHERE o.id = :offerId ORDER BY a.id")
+    Stream<ApplicationResponse> streamResponsesByOfferId(@Param("offerId") Long offerId);
 }
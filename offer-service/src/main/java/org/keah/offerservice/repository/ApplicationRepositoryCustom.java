@@ -0,0 +1,13 @@
+package org.keah.offerservice.repository;
+
+import java.time.LocalDateTime;
+
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Inserts one application and returns its generated id. A second application of the same
+     * candidate to the same offer is rejected by uk_candidate_offer and surfaces as
+     * {@link org.springframework.dao.DuplicateKeyException}.
+     */
+    Long insertApplication(String candidateEmail, Long offerId, LocalDateTime applicationDate, String status);
+}
@@ -0,0 +1,35 @@
+package org.keah.offerservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    private static final String INSERT_APPLICATION =
+            "INSERT INTO applications (candidate_email, offer_id, application_date, status) VALUES (?, ?, ?, ?)";
+
+    // Runs on the connection of the surrounding JPA transaction
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long insertApplication(String candidateEmail, Long offerId, LocalDateTime applicationDate, String status) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_APPLICATION, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, candidateEmail);
+            statement.setLong(2, offerId);
+            statement.setTimestamp(3, Timestamp.valueOf(applicationDate));
+            statement.setString(4, status);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Number.class).longValue();
+    }
+}
@@ -0,0 +1,8 @@
+package org.keah.offerservice.repository;
+
+/**
+ * What a bulk status change needs to know about one application: its owner, current status
+ * and the candidate to notify.
+ */
+public record ApplicationTarget(Long id, Long offerId, String recruiterEmail, String candidateEmail, String status) {
+}
@@ -0,0 +1,47 @@
+package org.keah.offerservice.repository;
+
+import org.keah.offerservice.entity.OfferApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OfferApplicationStatsRepository extends JpaRepository<OfferApplicationStats, OfferApplicationStats.Key> {
+
+    // Single-statement upsert: concurrent applications to one offer add up without lost updates
+    @Modifying
+    @Query(value = "INSERT INTO offer_application_stats (offer_id, status, recruiter_email, application_count) "
+            + "VALUES (:offerId, :status, :recruiterEmail, :delta) "
+            + "ON DUPLICATE KEY UPDATE application_count = application_count + :delta", nativeQuery = true)
+    void increment(@Param("offerId") Long offerId,
+                   @Param("status") String status,
+                   @Param("recruiterEmail") String recruiterEmail,
+                   @Param("delta") long delta);
+
+    // Absolute totals of live plus archived applications per offer and status, computed and written
+    // in one statement: running it twice, or next to concurrent increments, cannot double count
+    @Modifying
+    @Query(value = "INSERT INTO offer_application_stats (offer_id, status, recruiter_email, application_count) "
+            + "SELECT * FROM ("
+            + "  SELECT o.id, t.status, o.recruiter_email, SUM(t.application_count) AS application_count FROM ("
+            + "    SELECT offer_id, status, COUNT(*) AS application_count FROM applications GROUP BY offer_id, status"
+            + "    UNION ALL"
+            + "    SELECT offer_id, status, COUNT(*) FROM applications_archive GROUP BY offer_id, status"
+            + "  ) t JOIN offers o ON o.id = t.offer_id"
+            + "  GROUP BY o.id, t.status, o.recruiter_email"
+            + ") AS totals "
+            + "ON DUPLICATE KEY UPDATE application_count = totals.application_count", nativeQuery = true)
+    int rebuildFromApplications();
+
+    @Modifying
+    @Query("DELETE FROM OfferApplicationStats s WHERE s.offerId = :offerId")
+    void deleteByOfferId(@Param("offerId") Long offerId);
+
+    // ========== RECRUITER DASHBOARD ==========
+    @Query("SELECT new org.keah.offerservice.repository.OfferStatusCount(o.id, o.title, s.status, s.applicationCount) "
+            + "FROM Offer o LEFT JOIN OfferApplicationStats s ON s.offerId = o.id "
+            + "WHERE o.recruiterEmail = :email")
+    List<OfferStatusCount> findOfferStatusCounts(@Param("email") String email);
+}
@@ -0,0 +1,8 @@
+package org.keah.offerservice.repository;
+
+/**
+ * The slice of an offer the apply path needs: whether it accepts applications, who owns it
+ * (for the stats counters) and what the response shows.
+ */
+public record OfferApplyTarget(Long id, String title, String company, String recruiterEmail, Boolean active) {
+}
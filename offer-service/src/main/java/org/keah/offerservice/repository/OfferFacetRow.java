@@ -0,0 +1,17 @@
+package org.keah.offerservice.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The columns the facet index needs, selected without the description TEXT or the skills.
+ */
+public record OfferFacetRow(
+        Long id,
+        boolean active,
+        String domain,
+        String contractType,
+        String location,
+        Double salary,
+        LocalDate expirationDate
+) {
+}
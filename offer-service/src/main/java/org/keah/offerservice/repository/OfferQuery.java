@@ -0,0 +1,20 @@
+package org.keah.offerservice.repository;
+
+import org.keah.offerservice.dto.OfferFilter;
+
+import java.time.LocalDate;
+
+/**
+ * Filters and keyset position for one page of offers, ordered by (publishedDate, id).
+ * {@code null} filters are not applied; a null {@code afterId} means the first page.
+ */
+public record OfferQuery(
+        Boolean active,
+        String recruiterEmail,
+        OfferFilter filter,
+        boolean ascending,
+        LocalDate afterPublishedDate,
+        Long afterId,
+        int limit
+) {
+}
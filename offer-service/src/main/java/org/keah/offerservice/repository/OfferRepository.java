@@ -1,13 +1,55 @@
 package org.keah.offerservice.repository;
 
 import org.keah.offerservice.entity.Offer;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface OfferRepository extends JpaRepository<Offer, Long> {
+public interface OfferRepository extends JpaRepository<Offer, Long>, OfferRepositoryCustom {
 
     List<Offer> findByActiveTrue();
 
     List<Offer> findByRecruiterEmail(String recruiterEmail);
+
+    @Query("SELECT o.recruiterEmail FROM Offer o WHERE o.id = :id")
+    Optional<String> findRecruiterEmailById(@Param("id") Long id);
+
+    @Query("SELECT new org.keah.offerservice.repository.OfferApplyTarget(o.id, o.title, o.company, o.recruiterEmail, o.active) "
+            + "FROM Offer o WHERE o.id = :id")
+    Optional<OfferApplyTarget> findApplyTargetById(@Param("id") Long id);
+
+    // Id-only batches for full scans, so large tables are walked without OFFSET
+    @Query("SELECT o.id FROM Offer o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new org.keah.offerservice.repository.OfferFacetRow(o.id, o.active, o.domain, o.contractType, o.location, o.salary, o.expirationDate) "
+            + "FROM Offer o WHERE o.id > :afterId ORDER BY o.id")
+    List<OfferFacetRow> findFacetRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new org.keah.offerservice.repository.OfferFacetRow(o.id, o.active, o.domain, o.contractType, o.location, o.salary, o.expirationDate) "
+            + "FROM Offer o WHERE o.id IN :ids")
+    List<OfferFacetRow> findFacetRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ========== EXPIRATION SWEEP ==========
+    @Query("SELECT o.id FROM Offer o WHERE o.active = true AND o.expirationDate < :today ORDER BY o.expirationDate")
+    List<Long> findExpiredActiveIds(@Param("today") LocalDate today, Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Offer o SET o.active = false WHERE o.id IN :ids AND o.active = true")
+    int deactivate(@Param("ids") Collection<Long> ids);
+
+    // Skills for a whole page in one IN query, instead of one lazy load per offer
+    @Query("SELECT new org.keah.offerservice.repository.OfferSkill(o.id, s) FROM Offer o JOIN o.requiredSkills s WHERE o.id IN :ids")
+    List<OfferSkill> findSkillsByOfferIds(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "requiredSkills")
+    List<Offer> findWithRequiredSkillsByIdIn(Collection<Long> ids);
 }
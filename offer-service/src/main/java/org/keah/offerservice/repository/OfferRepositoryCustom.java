@@ -0,0 +1,10 @@
+package org.keah.offerservice.repository;
+
+import org.keah.offerservice.entity.Offer;
+
+import java.util.List;
+
+public interface OfferRepositoryCustom {
+
+    List<Offer> findPage(OfferQuery query);
+}
@@ -0,0 +1,109 @@
+package org.keah.offerservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.keah.offerservice.dto.OfferFilter;
+import org.keah.offerservice.entity.Offer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset pagination: instead of OFFSET, each page continues strictly after the last
+ * (publishedDate, id) seen, so the cost of a page does not grow with its position.
+ * MySQL sorts NULL dates first ascending and last descending; the seek predicate follows that.
+ */
+public class OfferRepositoryImpl implements OfferRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Offer> findPage(OfferQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Offer> cq = cb.createQuery(Offer.class);
+        Root<Offer> offer = cq.from(Offer.class);
+        Path<LocalDate> publishedDate = offer.get("publishedDate");
+        Path<Long> id = offer.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.active() != null) {
+            predicates.add(cb.equal(offer.get("active"), query.active()));
+        }
+        if (query.recruiterEmail() != null) {
+            predicates.add(cb.equal(offer.get("recruiterEmail"), query.recruiterEmail()));
+        }
+        if (query.filter() != null) {
+            addFilterPredicates(cb, offer, query.filter(), predicates);
+        }
+        if (query.afterId() != null) {
+            predicates.add(seek(cb, publishedDate, id, query));
+        }
+
+        cq.select(offer)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(query.ascending()
+                        ? List.of(cb.asc(publishedDate), cb.asc(id))
+                        : List.of(cb.desc(publishedDate), cb.desc(id)));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(query.limit())
+                .getResultList();
+    }
+
+    private void addFilterPredicates(CriteriaBuilder cb, Root<Offer> offer, OfferFilter filter, List<Predicate> predicates) {
+        if (filter.domain() != null) {
+            predicates.add(cb.equal(offer.get("domain"), filter.domain()));
+        }
+        if (filter.contractType() != null) {
+            predicates.add(cb.equal(offer.get("contractType"), filter.contractType()));
+        }
+        if (filter.location() != null) {
+            predicates.add(cb.equal(offer.get("location"), filter.location()));
+        }
+        if (filter.minSalary() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(offer.get("salary"), filter.minSalary()));
+        }
+        if (filter.maxSalary() != null) {
+            predicates.add(cb.lessThanOrEqualTo(offer.get("salary"), filter.maxSalary()));
+        }
+        Path<LocalDate> expirationDate = offer.get("expirationDate");
+        if (filter.expiresAfter() != null) {
+            predicates.add(cb.or(cb.isNull(expirationDate), cb.greaterThanOrEqualTo(expirationDate, filter.expiresAfter())));
+        }
+        if (filter.expiresBefore() != null) {
+            predicates.add(cb.lessThanOrEqualTo(expirationDate, filter.expiresBefore()));
+        }
+    }
+
+    private Predicate seek(CriteriaBuilder cb, Path<LocalDate> publishedDate, Path<Long> id, OfferQuery query) {
+        LocalDate lastDate = query.afterPublishedDate();
+        Long lastId = query.afterId();
+
+        if (query.ascending()) {
+            if (lastDate == null) {
+                // Still inside the leading NULL-date block, or past it
+                return cb.or(
+                        cb.and(cb.isNull(publishedDate), cb.greaterThan(id, lastId)),
+                        cb.isNotNull(publishedDate));
+            }
+            return cb.or(
+                    cb.greaterThan(publishedDate, lastDate),
+                    cb.and(cb.equal(publishedDate, lastDate), cb.greaterThan(id, lastId)));
+        }
+
+        if (lastDate == null) {
+            return cb.and(cb.isNull(publishedDate), cb.lessThan(id, lastId));
+        }
+        return cb.or(
+                cb.lessThan(publishedDate, lastDate),
+                cb.and(cb.equal(publishedDate, lastDate), cb.lessThan(id, lastId)),
+                cb.isNull(publishedDate));
+    }
+}
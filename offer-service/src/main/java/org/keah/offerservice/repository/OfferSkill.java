@@ -0,0 +1,7 @@
+package org.keah.offerservice.repository;
+
+/**
+ * One row of the offer_required_skills collection table.
+ */
+public record OfferSkill(Long offerId, String skill) {
+}
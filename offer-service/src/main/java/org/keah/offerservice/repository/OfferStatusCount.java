@@ -0,0 +1,8 @@
+package org.keah.offerservice.repository;
+
+/**
+ * One recruiter offer joined with one of its status counters; status and count are null for
+ * offers that have never received an application.
+ */
+public record OfferStatusCount(Long offerId, String title, String status, Long applicationCount) {
+}
@@ -0,0 +1,69 @@
+package org.keah.offerservice.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.entity.Offer;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps {@link OfferSearchIndex} in step with the offers table: a full rebuild when the
+ * service starts, then one incremental update per committed write.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OfferIndexer {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final OfferRepository offerRepository;
+    private final OfferSearchIndex searchIndex;
+
+    // =============================
+    // 🔁 FULL REBUILD ON STARTUP
+    // =============================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        searchIndex.clear();
+
+        long indexed = 0;
+        long lastId = 0;
+        List<Long> ids;
+        while (!(ids = offerRepository.findIdsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE))).isEmpty()) {
+            searchIndex.add(offerRepository.findWithRequiredSkillsByIdIn(ids));
+            indexed += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+        searchIndex.publish();
+        log.info("Offer search index rebuilt: {} offers in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    // =============================
+    // ✏️ INCREMENTAL UPDATES
+    // =============================
+    @TransactionalEventListener
+    public void onOfferChanged(OfferChangedEvent event) {
+        try {
+            if (event.type() == OfferChangedEvent.Type.DELETED) {
+                searchIndex.delete(event.offerIds());
+            } else {
+                List<Offer> offers = offerRepository.findWithRequiredSkillsByIdIn(event.offerIds());
+                searchIndex.index(offers);
+            }
+        } catch (RuntimeException e) {
+            // The write itself has committed; a stale index entry is fixed by the next rebuild
+            log.error("Could not update search index for offers {}: {}", event.offerIds(), e.getMessage());
+        }
+    }
+}
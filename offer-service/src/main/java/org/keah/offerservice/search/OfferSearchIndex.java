@@ -0,0 +1,195 @@
+package org.keah.offerservice.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.keah.offerservice.entity.Offer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Embedded Lucene index over the searchable offer fields. Documents are keyed by offer id and
+ * replaced wholesale on every change; only the id is stored, results are loaded from MySQL.
+ * Searches go through a near-real-time {@link SearcherManager}, so an update is visible as soon
+ * as it has been applied, without waiting for a commit.
+ */
+@Component
+@Slf4j
+public class OfferSearchIndex {
+
+    static final String ID = "id";
+    static final String ACTIVE = "active";
+
+    // Title and skills say more about an offer than a word buried in the description
+    private static final Map<String, Float> BOOSTS = Map.of(
+            "title", 3f,
+            "requiredSkills", 2f,
+            "domain", 1.5f,
+            "company", 1.5f,
+            "location", 1f,
+            "description", 1f);
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public OfferSearchIndex(@Value("${offers.search.index-dir:data/offer-index}") Path indexDir) throws IOException {
+        Files.createDirectories(indexDir);
+        this.directory = FSDirectory.open(indexDir);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(Collection<Offer> offers) {
+        add(offers);
+        publish();
+    }
+
+    /**
+     * Buffers documents without making them visible; used by the rebuild, which publishes once at the end.
+     */
+    public void add(Collection<Offer> offers) {
+        try {
+            for (Offer offer : offers) {
+                writer.updateDocument(new Term(ID, offer.getId().toString()), toDocument(offer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Collection<Long> offerIds) {
+        try {
+            for (Long offerId : offerIds) {
+                writer.deleteDocuments(new Term(ID, offerId.toString()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        publish();
+    }
+
+    /**
+     * Drops everything; the caller then re-adds all offers through {@link #add}.
+     * Readers keep the previous view until the next publish.
+     */
+    public void clear() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return ids of matching active offers, best match first
+     */
+    public List<Long> search(String queryText, int limit) {
+        Query query = new BooleanQuery.Builder()
+                .add(parse(queryText), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(ACTIVE, "true")), BooleanClause.Occur.FILTER)
+                .build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hit.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String queryText) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                BOOSTS.keySet().toArray(String[]::new), analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            // Free text from the search box is not expected to be valid Lucene syntax
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new RuntimeException("Invalid search query: " + queryText);
+            }
+        }
+    }
+
+    public void publish() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Document toDocument(Offer offer) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, offer.getId().toString(), Field.Store.YES));
+        doc.add(new StringField(ACTIVE, Boolean.toString(offer.isActive()), Field.Store.NO));
+        addText(doc, "title", offer.getTitle());
+        addText(doc, "description", offer.getDescription());
+        addText(doc, "company", offer.getCompany());
+        addText(doc, "location", offer.getLocation());
+        addText(doc, "domain", offer.getDomain());
+        if (offer.getRequiredSkills() != null) {
+            for (String skill : offer.getRequiredSkills()) {
+                addText(doc, "requiredSkills", skill);
+            }
+        }
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,136 @@
+package org.keah.offerservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.event.OfferDeletionRequestedEvent;
+import org.keah.offerservice.repository.ApplicationArchiveRepository;
+import org.keah.offerservice.repository.ApplicationRepository;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Moves applications from {@code applications} to {@code applications_archive}. Every move is
+ * an INSERT ... SELECT followed by a DELETE of the same rows in one transaction, so a row is
+ * always in exactly one of the two tables.
+ * <p>
+ * Deleting an offer deletes its applications, as it always has; they are only archived instead
+ * when offers.delete.archive-applications is switched on.
+ */
+@Service
+@Slf4j
+public class ApplicationArchiveService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchiveRepository archiveRepository;
+    private final OfferRepository offerRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final boolean archiveOnDelete;
+
+    public ApplicationArchiveService(
+            ApplicationRepository applicationRepository,
+            ApplicationArchiveRepository archiveRepository,
+            OfferRepository offerRepository,
+            ApplicationStatsService applicationStatsService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${offers.archive.chunk-size:1000}") int chunkSize,
+            @Value("${offers.delete.archive-applications:false}") boolean archiveOnDelete) {
+        this.applicationRepository = applicationRepository;
+        this.archiveRepository = archiveRepository;
+        this.offerRepository = offerRepository;
+        this.applicationStatsService = applicationStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.archiveOnDelete = archiveOnDelete;
+    }
+
+    // =============================
+    // 📦 SET-BASED MOVES
+    // =============================
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int archiveOffer(Long offerId) {
+        int moved = archiveRepository.copyByOfferId(offerId, LocalDateTime.now());
+        applicationRepository.deleteByOfferId(offerId);
+        return moved;
+    }
+
+    /**
+     * Removes every application of an offer that is about to be deleted: one set-based DELETE,
+     * or a move to the archive when that is enabled.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int removeOfferApplications(Long offerId) {
+        return archiveOnDelete ? archiveOffer(offerId) : applicationRepository.deleteByOfferId(offerId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int archiveIds(Collection<Long> applicationIds) {
+        int moved = archiveRepository.copyByIdIn(applicationIds, LocalDateTime.now());
+        applicationRepository.deleteByIdIn(applicationIds);
+        return moved;
+    }
+
+    // =============================
+    // 🗑️ BACKGROUND OFFER DELETION
+    // =============================
+    /**
+     * Removes the applications of a (deactivated) offer one chunk per transaction, then
+     * deletes the offer. If it fails half-way the offer simply stays deactivated with fewer
+     * applications, and deleting it again resumes the work.
+     */
+    @Async
+    @TransactionalEventListener
+    public void onOfferDeletionRequested(OfferDeletionRequestedEvent event) {
+        Long offerId = event.offerId();
+        long start = System.currentTimeMillis();
+        try {
+            long removed = 0;
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> removeChunk(offerId));
+                removed += chunk;
+            } while (chunk == chunkSize);
+
+            // Anything that slipped in since the last chunk goes with the offer itself
+            transactionTemplate.executeWithoutResult(status -> offerRepository.findById(offerId).ifPresent(offer -> {
+                removeOfferApplications(offerId);
+                applicationStatsService.forgetOffer(offerId);
+                offerRepository.delete(offer);
+                eventPublisher.publishEvent(OfferChangedEvent.of(offerId, OfferChangedEvent.Type.DELETED));
+            }));
+            log.info("Offer {} deleted in background: {} applications {} in {} ms",
+                    offerId, removed, archiveOnDelete ? "archived" : "deleted", System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Background deletion of offer {} failed; it stays deactivated", offerId, e);
+        }
+    }
+
+    private int removeChunk(Long offerId) {
+        List<Long> ids = applicationRepository.findIdsByOfferId(offerId, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (archiveOnDelete) {
+            archiveIds(ids);
+        } else {
+            applicationRepository.deleteByIdIn(ids);
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,94 @@
+package org.keah.offerservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.repository.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves cold applications (settled statuses, older than {@code cold-after-days}, offer no
+ * longer active) to applications_archive, one chunk per transaction, so the hot table and its
+ * indexes only hold what candidates and recruiters still act on. Stats counters are left as
+ * they are: an archived application still counts for its offer.
+ */
+@Component
+@Slf4j
+public class ApplicationArchiver {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchiveService applicationArchiveService;
+    private final TransactionTemplate transactionTemplate;
+    private final List<String> statuses;
+    private final int coldAfterDays;
+    private final int chunkSize;
+    private final Counter archivedApplications;
+    private final Timer chunkTimer;
+
+    public ApplicationArchiver(
+            ApplicationRepository applicationRepository,
+            ApplicationArchiveService applicationArchiveService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${offers.archive.statuses:REJECTED,WITHDRAWN}") List<String> statuses,
+            @Value("${offers.archive.cold-after-days:180}") int coldAfterDays,
+            @Value("${offers.archive.chunk-size:1000}") int chunkSize) {
+        this.applicationRepository = applicationRepository;
+        this.applicationArchiveService = applicationArchiveService;
+        this.transactionTemplate = transactionTemplate;
+        this.statuses = statuses;
+        this.coldAfterDays = coldAfterDays;
+        this.chunkSize = chunkSize;
+        this.archivedApplications = Counter.builder("offers.archive.archived")
+                .description("Cold applications moved to applications_archive")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("offers.archive.chunk")
+                .description("Time to select and move one chunk of cold applications")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${offers.archive.interval:PT6H}",
+            initialDelayString = "${offers.archive.initial-delay:PT10M}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(coldAfterDays);
+        long total = 0;
+        long lastId = 0;
+        try {
+            List<Long> ids;
+            do {
+                // Keyset on id: rows that stay in the table are not scanned again in this run
+                long afterId = lastId;
+                ids = chunkTimer.record(() -> archiveChunk(afterId, cutoff));
+                if (!ids.isEmpty()) {
+                    total += ids.size();
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == chunkSize);
+        } catch (RuntimeException e) {
+            // e.g. another instance archived the same rows first; the next run picks up the rest
+            log.warn("Application archival stopped after {} rows: {}", total, e.getMessage());
+        }
+
+        if (total > 0) {
+            log.info("Archived {} cold applications", total);
+        }
+    }
+
+    private List<Long> archiveChunk(long afterId, LocalDateTime cutoff) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = applicationRepository.findColdIdsAfter(afterId, statuses, cutoff, Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                archivedApplications.increment(applicationArchiveService.archiveIds(ids));
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package org.keah.offerservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.dto.ApplicationResponse;
+import org.keah.offerservice.repository.ApplicationRepository;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the applicants of an offer straight from a forward-only result set to the response,
+ * one row at a time, so memory use does not depend on the number of applicants.
+ */
+@Service
+@Slf4j
+public class ApplicationExportService {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("offerId")
+            .addColumn("offerTitle")
+            .addColumn("company")
+            .addColumn("candidateEmail")
+            .addColumn("applicationDate")
+            .addColumn("status")
+            .setUseHeader(true)
+            .build();
+
+    private final ApplicationRepository applicationRepository;
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    public ApplicationExportService(
+            ApplicationRepository applicationRepository,
+            OfferRepository offerRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.applicationRepository = applicationRepository;
+        this.offerRepository = offerRepository;
+        // The streamed result set only lives as long as the transaction around it
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ndjsonWriter = objectMapper.writerFor(ApplicationResponse.class);
+        this.csvWriter = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(ApplicationResponse.class)
+                .with(CSV_SCHEMA)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    // =============================
+    // 🔒 OWNERSHIP (checked before the response starts)
+    // =============================
+    public void checkCanExport(String recruiterEmail, Long offerId) {
+        String owner = offerRepository.findRecruiterEmailById(offerId)
+                .orElseThrow(() -> new RuntimeException("Offer not found with id: " + offerId));
+        if (!owner.equals(recruiterEmail)) {
+            throw new RuntimeException("You are not authorized to export applications of this offer");
+        }
+    }
+
+    // =============================
+    // 📤 EXPORTS
+    // =============================
+    public void exportCsv(Long offerId, OutputStream out) throws IOException {
+        try (SequenceWriter rows = csvWriter.writeValues(out)) {
+            long written = forEachApplication(offerId, rows::write);
+            log.info("Exported {} applications of offer {} as CSV", written, offerId);
+        }
+    }
+
+    public void exportNdjson(Long offerId, OutputStream out) throws IOException {
+        long written = forEachApplication(offerId, row -> {
+            out.write(ndjsonWriter.writeValueAsBytes(row));
+            out.write('\n');
+        });
+        out.flush();
+        log.info("Exported {} applications of offer {} as NDJSON", written, offerId);
+    }
+
+    private interface RowWriter {
+        void write(ApplicationResponse row) throws IOException;
+    }
+
+    private long forEachApplication(Long offerId, RowWriter writer) throws IOException {
+        try {
+            return readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<ApplicationResponse> rows = applicationRepository.streamResponsesByOfferId(offerId)) {
+                    Iterator<ApplicationResponse> it = rows.iterator();
+                    while (it.hasNext()) {
+                        writer.write(it.next());
+                        count++;
+                    }
+                } catch (IOException e) {
+                    // Client went away; stop reading rows
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.keah.offerservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.dto.RecruiterStatsResponse;
+import org.keah.offerservice.repository.OfferApplicationStatsRepository;
+import org.keah.offerservice.repository.OfferStatusCount;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Maintains offer_application_stats and serves the recruiter dashboard from it.
+ * Writers must call in from their own transaction so counters commit or roll back with the
+ * application rows they describe.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatsService implements SmartInitializingSingleton {
+
+    private final OfferApplicationStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // =============================
+    // ✏️ COUNTER UPDATES
+    // =============================
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApplied(Long offerId, String recruiterEmail, String status) {
+        statsRepository.increment(offerId, status, recruiterEmail, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Long offerId, String recruiterEmail, String oldStatus, String newStatus, long count) {
+        if (Objects.equals(oldStatus, newStatus) || count == 0) {
+            return;
+        }
+        if (oldStatus != null) {
+            statsRepository.increment(offerId, oldStatus, recruiterEmail, -count);
+        }
+        statsRepository.increment(offerId, newStatus, recruiterEmail, count);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void forgetOffer(Long offerId) {
+        statsRepository.deleteByOfferId(offerId);
+    }
+
+    // =============================
+    // 📊 RECRUITER DASHBOARD
+    // =============================
+    public RecruiterStatsResponse getRecruiterStats(String recruiterEmail) {
+        // One indexed query: every offer of the recruiter with its per-status counters
+        List<OfferStatusCount> rows = statsRepository.findOfferStatusCounts(recruiterEmail);
+
+        Set<Long> offerIds = new HashSet<>();
+        Map<String, Long> applicationsByOffer = new HashMap<>();
+        Map<String, Long> byStatus = new HashMap<>();
+        long total = 0;
+        for (OfferStatusCount row : rows) {
+            offerIds.add(row.offerId());
+            long count = row.applicationCount() != null ? row.applicationCount() : 0;
+            applicationsByOffer.merge(row.title(), count, Long::sum);
+            if (row.status() != null) {
+                byStatus.merge(row.status(), count, Long::sum);
+            }
+            total += count;
+        }
+
+        return RecruiterStatsResponse.builder()
+                .totalOffers(offerIds.size())
+                .totalApplications(total)
+                .pendingCount(byStatus.getOrDefault("PENDING", 0L))
+                .acceptedCount(byStatus.getOrDefault("ACCEPTED", 0L))
+                .rejectedCount(byStatus.getOrDefault("REJECTED", 0L))
+                .applicationsByOffer(applicationsByOffer)
+                .build();
+    }
+
+    // =============================
+    // 🔁 INITIAL BACKFILL
+    // =============================
+    /**
+     * Fills the counter table the first time the service starts with it empty. The rebuild is a
+     * single upsert of absolute totals, so another instance starting at the same time or already
+     * taking applications cannot make it double count.
+     * Archived applications are counted too: archiving moves rows, it does not change stats.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (statsRepository.count() > 0) {
+                return;
+            }
+            int rows = statsRepository.rebuildFromApplications();
+            if (rows > 0) {
+                log.info("Backfilled application stats ({} rows affected)", rows);
+            }
+        });
+    }
+}
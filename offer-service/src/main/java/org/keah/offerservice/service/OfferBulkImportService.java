@@ -0,0 +1,293 @@
+package org.keah.offerservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.dto.BulkImportResult;
+import org.keah.offerservice.dto.OfferRequest;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Streams offers from NDJSON or CSV into MySQL in JDBC batches, writing one NDJSON result per
+ * input row as each batch commits. Neither the input nor the results are held in memory
+ * beyond one batch. The import stops after offers.bulk.max-errors invalid rows, so a
+ * garbage upload cannot keep the request busy producing rejections.
+ * <p>
+ * Inserts go through plain JDBC rather than Hibernate: Hibernate cannot batch IDENTITY inserts,
+ * but the driver can (with rewriteBatchedStatements it sends one multi-row INSERT) and still
+ * hands back every generated id, so the offers table keeps its AUTO_INCREMENT key.
+ */
+@Service
+@Slf4j
+public class OfferBulkImportService {
+
+    private static final String INSERT_OFFER = "INSERT INTO offers (title, description, company, location, contract_type, "
+            + "salary, published_date, expiration_date, active, recruiter_email, domain) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SKILL = "INSERT INTO offer_required_skills (offer_id, required_skills) VALUES (?, ?)";
+
+    private record PendingRow(long row, OfferRequest request) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public OfferBulkImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${offers.bulk.batch-size:1000}") int batchSize,
+            @Value("${offers.bulk.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder().addModule(new JavaTimeModule()).build();
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    // =============================
+    // 📥 NDJSON: one OfferRequest object per line
+    // =============================
+    public void importNdjson(String recruiterEmail, InputStream in, OutputStream out) throws IOException {
+        ImportRun run = new ImportRun(recruiterEmail, out);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        long row = 0;
+        while (!run.tooManyErrors() && (line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                run.accept(row, objectMapper.readValue(line, OfferRequest.class));
+            } catch (JsonProcessingException e) {
+                run.reject(row, List.of("Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+        run.finish();
+    }
+
+    // =============================
+    // 📥 CSV: header row with OfferRequest field names, skills separated by ';'
+    // =============================
+    public void importCsv(String recruiterEmail, InputStream in, OutputStream out) throws IOException {
+        ImportRun run = new ImportRun(recruiterEmail, out);
+        CsvSchema schema = CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";");
+        try (MappingIterator<OfferRequest> rows = csvMapper.readerFor(OfferRequest.class).with(schema).readValues(in)) {
+            long row = 0;
+            while (!run.tooManyErrors()) {
+                row++;
+                OfferRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // The row was read but does not fit OfferRequest; the parser can go on with the next one.
+                    // Any other IOException means the input itself is broken or gone, and ends the import.
+                    run.reject(row, List.of("Malformed CSV row: " + e.getOriginalMessage()));
+                    continue;
+                }
+                run.accept(row, request);
+            }
+        }
+        run.finish();
+    }
+
+    /**
+     * State of one import: the pending batch and the response stream results go to.
+     */
+    private class ImportRun {
+
+        private final String recruiterEmail;
+        private final OutputStream out;
+        private final ObjectWriter resultWriter = objectMapper.writerFor(BulkImportResult.class);
+        private final List<PendingRow> batch = new ArrayList<>(batchSize);
+        private final LocalDate today = LocalDate.now();
+        private long created;
+        private long rejected;
+        private long invalid;
+        private long lastRow;
+
+        ImportRun(String recruiterEmail, OutputStream out) {
+            this.recruiterEmail = recruiterEmail;
+            this.out = out;
+        }
+
+        void accept(long row, OfferRequest request) throws IOException {
+            lastRow = row;
+            List<String> errors = validator.validate(request).stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .toList();
+            if (!errors.isEmpty()) {
+                reject(row, errors);
+                return;
+            }
+            batch.add(new PendingRow(row, request));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, List<String> errors) throws IOException {
+            lastRow = row;
+            rejected++;
+            invalid++;
+            write(BulkImportResult.invalid(row, errors));
+        }
+
+        // Only rows that failed mapping or validation count; failed batches are a database problem
+        boolean tooManyErrors() {
+            return invalid > maxErrors;
+        }
+
+        void finish() throws IOException {
+            flush();
+            if (tooManyErrors()) {
+                write(BulkImportResult.aborted(lastRow, "Import stopped after " + invalid + " invalid rows"));
+            }
+            out.flush();
+            log.info("Bulk import by {}: {} offers created, {} rows rejected", recruiterEmail, created, rejected);
+        }
+
+        private void flush() throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<BulkImportResult> results;
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> insertBatch(batch));
+                results = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    results.add(BulkImportResult.created(batch.get(i).row(), ids.get(i)));
+                }
+                created += ids.size();
+            } catch (RuntimeException e) {
+                // The whole batch rolled back together; report every row in it
+                log.warn("Bulk import batch failed: {}", e.getMessage());
+                results = batch.stream()
+                        .map(pending -> BulkImportResult.failed(pending.row(), "Batch insert failed: " + e.getMessage()))
+                        .toList();
+                rejected += batch.size();
+            }
+            batch.clear();
+            for (BulkImportResult result : results) {
+                write(result);
+            }
+            out.flush();
+        }
+
+        private List<Long> insertBatch(List<PendingRow> rows) {
+            List<Long> ids = jdbcTemplate.execute((Connection connection) -> {
+                List<Long> generated = new ArrayList<>(rows.size());
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_OFFER, Statement.RETURN_GENERATED_KEYS)) {
+                    for (PendingRow pending : rows) {
+                        bindOffer(insert, pending.request());
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generated.add(keys.getLong(1));
+                        }
+                    }
+                }
+                if (generated.size() != rows.size()) {
+                    throw new IllegalStateException("Expected " + rows.size() + " generated ids, got " + generated.size());
+                }
+
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_SKILL)) {
+                    for (int i = 0; i < rows.size(); i++) {
+                        List<String> skills = rows.get(i).request().getRequiredSkills();
+                        if (skills == null) {
+                            continue;
+                        }
+                        for (String skill : skills) {
+                            if (skill == null || skill.isBlank()) {
+                                continue;
+                            }
+                            insert.setLong(1, generated.get(i));
+                            insert.setString(2, skill.trim());
+                            insert.addBatch();
+                        }
+                    }
+                    insert.executeBatch();
+                }
+                return generated;
+            });
+            // Search index, facets and caches catch up after commit, one event per batch
+            eventPublisher.publishEvent(new OfferChangedEvent(ids, OfferChangedEvent.Type.CREATED));
+            return ids;
+        }
+
+        private void bindOffer(PreparedStatement insert, OfferRequest request) throws SQLException {
+            insert.setString(1, request.getTitle());
+            insert.setString(2, request.getDescription());
+            insert.setString(3, request.getCompany());
+            insert.setString(4, request.getLocation());
+            insert.setString(5, request.getContractType());
+            if (request.getSalary() != null) {
+                insert.setDouble(6, request.getSalary());
+            } else {
+                insert.setNull(6, Types.DOUBLE);
+            }
+            insert.setDate(7, Date.valueOf(today));
+            if (request.getExpirationDate() != null) {
+                insert.setDate(8, Date.valueOf(request.getExpirationDate()));
+            } else {
+                insert.setNull(8, Types.DATE);
+            }
+            insert.setBoolean(9, true);
+            insert.setString(10, recruiterEmail);
+            insert.setString(11, request.getDomain());
+        }
+
+        private void write(BulkImportResult result) throws IOException {
+            out.write(resultWriter.writeValueAsBytes(result));
+            out.write('\n');
+        }
+    }
+}
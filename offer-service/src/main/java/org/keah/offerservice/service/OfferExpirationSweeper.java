@@ -0,0 +1,83 @@
+package org.keah.offerservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Deactivates offers whose expiration date has passed. Each chunk is its own short
+ * transaction (select a bounded batch of ids through the (active, expirationDate) index,
+ * then one UPDATE ... WHERE id IN), so a large backlog never holds locks on the whole table.
+ * Running it on several instances at once is harmless: the UPDATE only touches active rows.
+ */
+@Component
+@Slf4j
+public class OfferExpirationSweeper {
+
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final Counter sweptOffers;
+    private final Timer chunkTimer;
+
+    public OfferExpirationSweeper(
+            OfferRepository offerRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${offers.expiration.chunk-size:500}") int chunkSize) {
+        this.offerRepository = offerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.sweptOffers = Counter.builder("offers.expiration.swept")
+                .description("Offers deactivated because their expiration date passed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("offers.expiration.chunk")
+                .description("Time to select and deactivate one chunk of expired offers")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${offers.expiration.sweep-interval:PT15M}",
+            initialDelayString = "${offers.expiration.initial-delay:PT1M}")
+    public void sweep() {
+        LocalDate today = LocalDate.now();
+        long total = 0;
+        int swept;
+        do {
+            swept = chunkTimer.record(() -> sweepChunk(today));
+            total += swept;
+        } while (swept == chunkSize);
+
+        if (total > 0) {
+            log.info("Expiration sweep deactivated {} offers", total);
+        }
+    }
+
+    private int sweepChunk(LocalDate today) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = offerRepository.findExpiredActiveIds(today, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int updated = offerRepository.deactivate(ids);
+            sweptOffers.increment(updated);
+            // Published inside the transaction so index and cache listeners run after commit
+            eventPublisher.publishEvent(new OfferChangedEvent(ids, OfferChangedEvent.Type.DEACTIVATED));
+            return ids.size();
+        });
+    }
+}
@@ -2,20 +2,44 @@ package org.keah.offerservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.keah.offerservice.cache.OfferApplyCache;
 import org.keah.offerservice.dto.ApplicationResponse;
+import org.keah.offerservice.dto.ApplicationStatusUpdate;
+import org.keah.offerservice.dto.BulkStatusRequest;
+import org.keah.offerservice.dto.BulkStatusResult;
+import org.keah.offerservice.dto.CursorPage;
+import org.keah.offerservice.dto.OfferFilter;
 import org.keah.offerservice.dto.OfferRequest;
 import org.keah.offerservice.dto.OfferResponse;
 import org.keah.offerservice.dto.RecruiterStatsResponse;
 import org.keah.offerservice.entity.Application;
 import org.keah.offerservice.entity.Offer;
+import org.keah.offerservice.event.ApplicationStatusChangedEvent;
+import org.keah.offerservice.event.OfferChangedEvent;
+import org.keah.offerservice.event.OfferDeletionRequestedEvent;
+import org.keah.offerservice.facet.OfferFacetIndex;
+import org.keah.offerservice.repository.ApplicationArchiveRepository;
 import org.keah.offerservice.repository.ApplicationRepository;
+import org.keah.offerservice.repository.ApplicationTarget;
+import org.keah.offerservice.repository.OfferApplyTarget;
+import org.keah.offerservice.repository.OfferQuery;
 import org.keah.offerservice.repository.OfferRepository;
+import org.keah.offerservice.repository.OfferSkill;
+import org.keah.offerservice.search.OfferSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,35 +51,74 @@ public class OfferService {
 
     private final OfferRepository offerRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApplicationArchiveRepository applicationArchiveRepository;
+    private final OfferSearchIndex offerSearchIndex;
+    private final OfferFacetIndex offerFacetIndex;
+    private final ApplicationStatsService applicationStatsService;
+    private final ApplicationArchiveService applicationArchiveService;
+    private final OfferApplyCache offerApplyCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${offers.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${offers.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${offers.delete.async-threshold:5000}")
+    private long asyncDeleteThreshold;
+
+    @Value("${offers.applications.bulk.max-ids:5000}")
+    private int bulkStatusMaxIds;
+
+    // Keeps each IN list well under driver and optimizer limits
+    private static final int IN_CHUNK_SIZE = 1000;
 
     // =============================
     // 📋 GET ALL ACTIVE OFFERS (for candidates)
     // =============================
-    public List<OfferResponse> getAllActiveOffers() {
-        return offerRepository.findByActiveTrue()
-                .stream()
-                .map(this::toOfferResponse)
-                .collect(Collectors.toList());
+    public CursorPage<OfferResponse> getAllActiveOffers(OfferFilter filter, String cursor, Integer size, String direction) {
+        CursorPage<OfferResponse> page = getOfferPage(true, null, filter, cursor, size, direction);
+        page.setFacets(offerFacetIndex.activeOfferCounts(filter));
+        return page;
     }
 
     // =============================
     // 📋 GET ALL OFFERS (for recruiters/admin)
     // =============================
-    public List<OfferResponse> getAllOffers() {
-        return offerRepository.findAll()
-                .stream()
-                .map(this::toOfferResponse)
-                .collect(Collectors.toList());
+    public CursorPage<OfferResponse> getAllOffers(String cursor, Integer size, String direction) {
+        return getOfferPage(null, null, OfferFilter.NONE, cursor, size, direction);
     }
 
     // =============================
     // 📋 GET MY OFFERS (for recruiters)
     // =============================
-    public List<OfferResponse> getOffersByRecruiter(String recruiterEmail) {
-        return offerRepository.findByRecruiterEmail(recruiterEmail)
-                .stream()
-                .map(this::toOfferResponse)
-                .collect(Collectors.toList());
+    public CursorPage<OfferResponse> getOffersByRecruiter(String recruiterEmail, String cursor, Integer size, String direction) {
+        return getOfferPage(null, recruiterEmail, OfferFilter.NONE, cursor, size, direction);
+    }
+
+    private CursorPage<OfferResponse> getOfferPage(Boolean active, String recruiterEmail, OfferFilter filter,
+                                                   String cursor, Integer size, String direction) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        boolean ascending = "asc".equalsIgnoreCase(direction);
+        OfferCursor after = cursor == null || cursor.isBlank() ? null : OfferCursor.decode(cursor);
+
+        // One extra row tells whether there is a next page without a COUNT query
+        List<Offer> rows = offerRepository.findPage(new OfferQuery(
+                active, recruiterEmail, filter, ascending,
+                after != null ? after.publishedDate() : null,
+                after != null ? after.id() : null,
+                pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Offer> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Offer last = hasNext ? page.get(page.size() - 1) : null;
+
+        return CursorPage.<OfferResponse>builder()
+                .items(toOfferResponses(page))
+                .nextCursor(last != null ? new OfferCursor(last.getPublishedDate(), last.getId()).encode() : null)
+                .size(page.size())
+                .build();
     }
 
     // =============================
@@ -67,6 +130,26 @@ public class OfferService {
         return toOfferResponse(offer);
     }
 
+    // =============================
+    // 🔎 SEARCH ACTIVE OFFERS (full-text)
+    // =============================
+    public List<OfferResponse> searchOffers(String query, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query must not be empty");
+        }
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<Long> rankedIds = offerSearchIndex.search(query, limit);
+
+        // The index only ranks; rows come from MySQL and are put back in ranking order
+        Map<Long, Offer> offers = offerRepository.findWithRequiredSkillsByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(Offer::getId, offer -> offer));
+        return rankedIds.stream()
+                .map(offers::get)
+                .filter(offer -> offer != null && offer.isActive())
+                .map(this::toOfferResponse)
+                .collect(Collectors.toList());
+    }
+
     // =============================
     // ➕ CREATE OFFER (for recruiters)
     // =============================
@@ -88,6 +171,7 @@ public class OfferService {
                 .build();
 
         Offer saved = offerRepository.save(offer);
+        eventPublisher.publishEvent(OfferChangedEvent.of(saved.getId(), OfferChangedEvent.Type.CREATED));
         log.info("Offer created: {} by {}", saved.getTitle(), recruiterEmail);
         return toOfferResponse(saved);
     }
@@ -126,6 +210,7 @@ public class OfferService {
             offer.setRequiredSkills(request.getRequiredSkills());
 
         Offer saved = offerRepository.save(offer);
+        eventPublisher.publishEvent(OfferChangedEvent.of(saved.getId(), OfferChangedEvent.Type.UPDATED));
         log.info("Offer updated: {} by {}", saved.getTitle(), recruiterEmail);
         return toOfferResponse(saved);
     }
@@ -133,8 +218,12 @@ public class OfferService {
     // =============================
     // 🗑️ DELETE OFFER (for recruiters)
     // =============================
+    /**
+     * @return {@code true} if the deletion was handed to the background (the offer is only
+     *         deactivated for now), {@code false} if it is already gone
+     */
     @Transactional
-    public void deleteOffer(String recruiterEmail, Long offerId) {
+    public boolean deleteOffer(String recruiterEmail, Long offerId, boolean async) {
         Offer offer = offerRepository.findById(offerId)
                 .orElseThrow(() -> new RuntimeException("Offer not found with id: " + offerId));
 
@@ -143,11 +232,25 @@ public class OfferService {
             throw new RuntimeException("You are not authorized to delete this offer");
         }
 
-        // Delete related applications first to avoid FK constraint violation
-        applicationRepository.deleteByOfferId(offerId);
+        // Large offers: hide now, remove the applications in chunks after commit
+        if (async || applicationRepository.countByOfferId(offerId) > asyncDeleteThreshold) {
+            offer.setActive(false);
+            offerRepository.save(offer);
+            eventPublisher.publishEvent(OfferChangedEvent.of(offerId, OfferChangedEvent.Type.DEACTIVATED));
+            eventPublisher.publishEvent(new OfferDeletionRequestedEvent(offerId));
+            log.info("Offer {} deactivated by {}, deletion continues in background", offerId, recruiterEmail);
+            return true;
+        }
+
+        // Delete related applications first to avoid FK constraint violation (one DELETE statement;
+        // archived instead only if offers.delete.archive-applications is on)
+        applicationArchiveService.removeOfferApplications(offerId);
+        applicationStatsService.forgetOffer(offerId);
 
         offerRepository.delete(offer);
+        eventPublisher.publishEvent(OfferChangedEvent.of(offerId, OfferChangedEvent.Type.DELETED));
         log.info("Offer deleted: {} by {}", offerId, recruiterEmail);
+        return false;
     }
 
     // =============================
@@ -155,31 +258,40 @@ public class OfferService {
     // =============================
     @Transactional
     public ApplicationResponse applyToOffer(String candidateEmail, Long offerId) {
-        // Check if offer exists and is active
-        Offer offer = offerRepository.findById(offerId)
-                .orElseThrow(() -> new RuntimeException("Offer not found with id: " + offerId));
-
-        if (!offer.isActive()) {
+        // Check if offer exists and is active (cached: a popular offer is not re-read per click)
+        OfferApplyTarget offer = offerApplyCache.get(offerId);
+        if (offer == null) {
+            throw new RuntimeException("Offer not found with id: " + offerId);
+        }
+        if (!offer.active()) {
             throw new RuntimeException("This offer is no longer active");
         }
 
-        // Check for duplicate application
-        if (applicationRepository.existsByCandidateEmailAndOfferId(candidateEmail, offerId)) {
-            throw new RuntimeException("You have already applied to this offer");
+        // Create application; uk_candidate_offer is the duplicate check, so double-submits
+        // cannot race past a separate exists query
+        LocalDateTime applicationDate = LocalDateTime.now();
+        Long applicationId;
+        try {
+            applicationId = applicationRepository.insertApplication(candidateEmail, offerId, applicationDate, "PENDING");
+        } catch (DuplicateKeyException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "You have already applied to this offer");
+        } catch (DataIntegrityViolationException e) {
+            // Offer deleted since it was cached
+            throw new RuntimeException("Offer not found with id: " + offerId);
         }
 
-        // Create application
-        Application application = Application.builder()
+        applicationStatsService.recordApplied(offerId, offer.recruiterEmail(), "PENDING");
+        log.info("Application submitted: {} applied to offer {}", candidateEmail, offerId);
+
+        return ApplicationResponse.builder()
+                .id(applicationId)
+                .offerId(offerId)
+                .offerTitle(offer.title())
+                .company(offer.company())
                 .candidateEmail(candidateEmail)
-                .offer(offer)
-                .applicationDate(LocalDateTime.now())
+                .applicationDate(applicationDate)
                 .status("PENDING")
                 .build();
-
-        Application saved = applicationRepository.save(application);
-        log.info("Application submitted: {} applied to offer {}", candidateEmail, offerId);
-
-        return toApplicationResponse(saved);
     }
 
     // =============================
@@ -195,65 +307,150 @@ public class OfferService {
             throw new RuntimeException("You are not authorized to update this application");
         }
 
+        String previousStatus = application.getStatus();
         application.setStatus(status);
         Application saved = applicationRepository.save(application);
+        applicationStatsService.recordStatusChange(application.getOffer().getId(),
+                application.getOffer().getRecruiterEmail(), previousStatus, status, 1);
+        if (!status.equals(previousStatus)) {
+            eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(application.getCandidateEmail(),
+                    applicationId, application.getOffer().getId(), status));
+        }
         log.info("Application {} status changed to {} by {}", applicationId, status, recruiterEmail);
 
         return toApplicationResponse(saved);
     }
 
+    // =============================
+    // ✅ BULK UPDATE APPLICATION STATUS (for recruiters)
+    // =============================
+    @Transactional
+    public List<BulkStatusResult> bulkUpdateApplicationStatus(String recruiterEmail, BulkStatusRequest request) {
+        String status = request.getStatus();
+        List<ApplicationTarget> targets = new ArrayList<>();
+        List<Long> requestedIds;
+
+        if (request.getOfferId() != null) {
+            String owner = offerRepository.findRecruiterEmailById(request.getOfferId())
+                    .orElseThrow(() -> new RuntimeException("Offer not found with id: " + request.getOfferId()));
+            if (!owner.equals(recruiterEmail)) {
+                throw new RuntimeException("You are not authorized to update applications of this offer");
+            }
+            targets = applicationRepository.findTargetsByOffer(request.getOfferId(), request.getCurrentStatus());
+            requestedIds = targets.stream().map(ApplicationTarget::id).toList();
+        } else {
+            requestedIds = List.copyOf(new LinkedHashSet<>(request.getApplicationIds()));
+            if (requestedIds.size() > bulkStatusMaxIds) {
+                throw new RuntimeException("At most " + bulkStatusMaxIds + " applications can be updated at once");
+            }
+            // Ownership and current status of every id in one locking read per chunk
+            for (List<Long> chunk : chunks(requestedIds)) {
+                targets.addAll(applicationRepository.findTargetsByIdIn(chunk));
+            }
+        }
+
+        Map<Long, ApplicationTarget> byId = targets.stream()
+                .collect(Collectors.toMap(ApplicationTarget::id, t -> t));
+        List<Long> toUpdate = new ArrayList<>();
+        List<ApplicationStatusChangedEvent.Change> changes = new ArrayList<>();
+        // offerId -> previous status -> rows moving out of it, for the stats deltas
+        Map<Long, Map<String, Long>> moved = new LinkedHashMap<>();
+        Map<Long, String> owners = new LinkedHashMap<>();
+        List<BulkStatusResult> results = new ArrayList<>(requestedIds.size());
+
+        for (Long id : requestedIds) {
+            ApplicationTarget target = byId.get(id);
+            BulkStatusResult.Outcome outcome;
+            if (target == null) {
+                outcome = BulkStatusResult.Outcome.NOT_FOUND;
+            } else if (!target.recruiterEmail().equals(recruiterEmail)) {
+                outcome = BulkStatusResult.Outcome.FORBIDDEN;
+            } else if (status.equals(target.status())) {
+                outcome = BulkStatusResult.Outcome.UNCHANGED;
+            } else {
+                outcome = BulkStatusResult.Outcome.UPDATED;
+                toUpdate.add(id);
+                changes.add(new ApplicationStatusChangedEvent.Change(target.candidateEmail(),
+                        new ApplicationStatusUpdate(id, target.offerId(), status)));
+                moved.computeIfAbsent(target.offerId(), k -> new LinkedHashMap<>())
+                        .merge(target.status(), 1L, Long::sum);
+                owners.put(target.offerId(), target.recruiterEmail());
+            }
+            results.add(new BulkStatusResult(id, outcome));
+        }
+
+        for (List<Long> chunk : chunks(toUpdate)) {
+            applicationRepository.updateStatusByIdIn(chunk, status);
+        }
+        moved.forEach((offerId, fromStatuses) -> fromStatuses.forEach((previousStatus, count) ->
+                applicationStatsService.recordStatusChange(offerId, owners.get(offerId), previousStatus, status, count)));
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(changes));
+        }
+
+        log.info("Bulk status change to {} by {}: {} of {} applications updated",
+                status, recruiterEmail, toUpdate.size(), requestedIds.size());
+        return results;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
     // =============================
     // 📋 GET MY APPLICATIONS (for candidates)
     // =============================
-    public List<ApplicationResponse> getMyApplications(String candidateEmail) {
-        return applicationRepository.findByCandidateEmail(candidateEmail)
-                .stream()
-                .map(this::toApplicationResponse)
-                .collect(Collectors.toList());
+    public List<ApplicationResponse> getMyApplications(String candidateEmail, boolean includeArchived) {
+        List<ApplicationResponse> applications = applicationRepository.findResponsesByCandidateEmail(candidateEmail);
+        if (!includeArchived) {
+            return applications;
+        }
+        List<ApplicationResponse> all = new ArrayList<>(applications);
+        all.addAll(applicationArchiveRepository.findResponsesByCandidateEmail(candidateEmail));
+        return all;
     }
 
     // =============================
     // 📋 GET APPLICATIONS FOR OFFER (for recruiters)
     // =============================
     public List<ApplicationResponse> getApplicationsForOffer(Long offerId) {
-        return applicationRepository.findByOfferId(offerId)
-                .stream()
-                .map(this::toApplicationResponse)
-                .collect(Collectors.toList());
+        return applicationRepository.findResponsesByOfferId(offerId);
     }
 
     // =============================
     // 📊 GET RECRUITER STATS (for dashboard)
     // =============================
     public RecruiterStatsResponse getRecruiterStats(String recruiterEmail) {
-        List<Offer> offers = offerRepository.findByRecruiterEmail(recruiterEmail);
-
-        long totalApplications = applicationRepository.countByOfferRecruiterEmail(recruiterEmail);
-        long pendingCount = applicationRepository.countByOfferRecruiterEmailAndStatus(recruiterEmail, "PENDING");
-        long acceptedCount = applicationRepository.countByOfferRecruiterEmailAndStatus(recruiterEmail, "ACCEPTED");
-        long rejectedCount = applicationRepository.countByOfferRecruiterEmailAndStatus(recruiterEmail, "REJECTED");
-
-        // Applications by offer
-        Map<String, Long> applicationsByOffer = new HashMap<>();
-        for (Offer offer : offers) {
-            long count = applicationRepository.findByOfferId(offer.getId()).size();
-            applicationsByOffer.put(offer.getTitle(), count);
-        }
-
-        return RecruiterStatsResponse.builder()
-                .totalOffers(offers.size())
-                .totalApplications(totalApplications)
-                .pendingCount(pendingCount)
-                .acceptedCount(acceptedCount)
-                .rejectedCount(rejectedCount)
-                .applicationsByOffer(applicationsByOffer)
-                .build();
+        return applicationStatsService.getRecruiterStats(recruiterEmail);
     }
 
     // =============================
     // 🔧 MAPPERS
     // =============================
     private OfferResponse toOfferResponse(Offer offer) {
+        return toOfferResponse(offer, offer.getRequiredSkills());
+    }
+
+    // List variant: skills are fetched for all offers at once and stitched back by offer id
+    private List<OfferResponse> toOfferResponses(List<Offer> offers) {
+        if (offers.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> skillsByOffer = offerRepository
+                .findSkillsByOfferIds(offers.stream().map(Offer::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OfferSkill::offerId,
+                        Collectors.mapping(OfferSkill::skill, Collectors.toList())));
+        return offers.stream()
+                .map(offer -> toOfferResponse(offer, skillsByOffer.getOrDefault(offer.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private OfferResponse toOfferResponse(Offer offer, List<String> requiredSkills) {
         return OfferResponse.builder()
                 .id(offer.getId())
                 .title(offer.getTitle())
@@ -266,7 +463,7 @@ public class OfferService {
                 .expirationDate(offer.getExpirationDate())
                 .active(offer.isActive())
                 .domain(offer.getDomain())
-                .requiredSkills(offer.getRequiredSkills())
+                .requiredSkills(requiredSkills)
                 .build();
     }
 
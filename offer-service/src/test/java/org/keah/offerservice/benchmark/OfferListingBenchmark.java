@@ -0,0 +1,146 @@
+package org.keah.offerservice.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.keah.offerservice.dto.OfferFilter;
+import org.keah.offerservice.entity.Offer;
+import org.keah.offerservice.repository.OfferQuery;
+import org.keah.offerservice.repository.OfferRepository;
+import org.keah.offerservice.repository.OfferSkill;
+import org.keah.offerservice.support.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /offers data access at 1k and 10k offers (5 skills each), on H2:
+ * <ul>
+ *   <li>before: every active offer loaded at once, skills lazily per offer (1 + N statements)</li>
+ *   <li>after: keyset pages of 100, skills for each page in one IN query (2 per page)</li>
+ * </ul>
+ * Run with {@code mvn test -Dtest.excluded-groups= -Dgroups=benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class OfferListingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000})
+    void listActiveOffers(int offerCount) {
+        seed(offerCount);
+        SqlStatementCounter statements = new SqlStatementCounter(entityManager.getEntityManagerFactory());
+
+        long beforeStatements = 0;
+        long afterStatements = 0;
+        long beforeNanos = 0;
+        long afterNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            entityManager.clear();
+            statements.reset();
+            long start = System.nanoTime();
+            int before = listAllWithLazySkills();
+            beforeNanos += System.nanoTime() - start;
+            beforeStatements = statements.count();
+
+            entityManager.clear();
+            statements.reset();
+            start = System.nanoTime();
+            int after = listAllPagedWithBatchedSkills();
+            afterNanos += System.nanoTime() - start;
+            afterStatements = statements.count();
+
+            assertThat(before).isEqualTo(offerCount * 5);
+            assertThat(after).isEqualTo(offerCount * 5);
+        }
+
+        System.out.printf("GET /offers, %,d offers: before %,d statements / %,d ms, after %,d statements / %,d ms (avg of %d)%n",
+                offerCount,
+                beforeStatements, beforeNanos / ROUNDS / 1_000_000,
+                afterStatements, afterNanos / ROUNDS / 1_000_000,
+                ROUNDS);
+
+        int pages = (offerCount + PAGE_SIZE - 1) / PAGE_SIZE;
+        assertThat(beforeStatements).isEqualTo(1 + offerCount);
+        assertThat(afterStatements).isEqualTo(2L * pages);
+    }
+
+    private int listAllWithLazySkills() {
+        int skills = 0;
+        for (Offer offer : offerRepository.findByActiveTrue()) {
+            skills += offer.getRequiredSkills().size();
+        }
+        return skills;
+    }
+
+    private int listAllPagedWithBatchedSkills() {
+        int skills = 0;
+        LocalDate afterDate = null;
+        Long afterId = null;
+        while (true) {
+            List<Offer> rows = offerRepository.findPage(new OfferQuery(
+                    true, null, OfferFilter.NONE, false, afterDate, afterId, PAGE_SIZE + 1));
+            List<Offer> page = rows.size() > PAGE_SIZE ? rows.subList(0, PAGE_SIZE) : rows;
+            if (page.isEmpty()) {
+                return skills;
+            }
+            Map<Long, List<String>> skillsByOffer = offerRepository
+                    .findSkillsByOfferIds(page.stream().map(Offer::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(OfferSkill::offerId,
+                            Collectors.mapping(OfferSkill::skill, Collectors.toList())));
+            for (Offer offer : page) {
+                skills += skillsByOffer.getOrDefault(offer.getId(), List.of()).size();
+            }
+            if (rows.size() <= PAGE_SIZE) {
+                return skills;
+            }
+            Offer last = page.get(page.size() - 1);
+            afterDate = last.getPublishedDate();
+            afterId = last.getId();
+        }
+    }
+
+    private void seed(int offerCount) {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < offerCount; i++) {
+            entityManager.persist(Offer.builder()
+                    .title("Offer " + i)
+                    .description("Description of offer " + i)
+                    .company("Company " + (i % 50))
+                    .location("City " + (i % 20))
+                    .contractType(i % 3 == 0 ? "CDD" : "CDI")
+                    .publishedDate(today.minusDays(i % 365))
+                    .recruiterEmail("recruiter" + (i % 10) + "@keah.org")
+                    .domain("Domain " + (i % 8))
+                    .requiredSkills(List.of("Java", "Spring", "SQL", "Docker", "Skill " + i))
+                    .build());
+            if (i % 500 == 499) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package org.keah.offerservice.facet;
+
+import org.junit.jupiter.api.Test;
+import org.keah.offerservice.dto.OfferFilter;
+import org.keah.offerservice.repository.OfferFacetRow;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetBitmapsTest {
+
+    private final FacetBitmaps bitmaps = new FacetBitmaps();
+
+    @Test
+    void countsEachFacetWithTheOtherFacetsFiltersApplied() {
+        bitmaps.upsert(row(1L, true, "IT", "CDI", "Paris", 50000.0, null));
+        bitmaps.upsert(row(2L, true, "IT", "CDD", "Lyon", 40000.0, null));
+        bitmaps.upsert(row(3L, true, "Finance", "CDI", "paris", 60000.0, null));
+        bitmaps.upsert(row(4L, false, "IT", "CDI", "Paris", 55000.0, null));
+
+        OfferFilter itOnly = new OfferFilter("it", null, null, null, null, null, null);
+        Map<String, Map<String, Long>> counts = bitmaps.counts(itOnly, true, 10);
+
+        // The domain facet ignores its own selection so alternatives stay visible
+        assertThat(counts.get("domain")).containsExactly(Map.entry("IT", 2L), Map.entry("Finance", 1L));
+        assertThat(counts.get("contractType")).containsOnly(Map.entry("CDI", 1L), Map.entry("CDD", 1L));
+        assertThat(counts.get("location")).containsOnly(Map.entry("Paris", 1L), Map.entry("Lyon", 1L));
+    }
+
+    @Test
+    void salaryAndExpirationBoundsNarrowEveryFacet() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        bitmaps.upsert(row(1L, true, "IT", "CDI", "Paris", 50000.0, today.plusDays(10)));
+        bitmaps.upsert(row(2L, true, "IT", "CDI", "Paris", null, null));
+        bitmaps.upsert(row(3L, true, "IT", "CDI", "Paris", 30000.0, today.minusDays(1)));
+
+        OfferFilter notExpired = new OfferFilter(null, null, null, null, null, today, null);
+        assertThat(bitmaps.counts(notExpired, true, 10).get("domain")).containsExactly(Map.entry("IT", 2L));
+
+        OfferFilter salary = new OfferFilter(null, null, null, 40000.0, null, null, null);
+        assertThat(bitmaps.counts(salary, true, 10).get("domain")).containsExactly(Map.entry("IT", 1L));
+    }
+
+    @Test
+    void updatesAndRemovalsMoveOffersBetweenValues() {
+        bitmaps.upsert(row(1L, true, "IT", "CDI", "Paris", null, null));
+        bitmaps.upsert(row(2L, true, "IT", "CDI", "Paris", null, null));
+
+        bitmaps.upsert(row(1L, true, "Finance", "CDI", "Paris", null, null));
+        bitmaps.remove(2L);
+        bitmaps.upsert(row(3L, true, "Health", "CDI", "Paris", null, null));
+
+        assertThat(bitmaps.size()).isEqualTo(2);
+        assertThat(bitmaps.counts(OfferFilter.NONE, true, 10).get("domain"))
+                .containsOnly(Map.entry("Finance", 1L), Map.entry("Health", 1L));
+    }
+
+    private static OfferFacetRow row(Long id, boolean active, String domain, String contractType,
+                                     String location, Double salary, LocalDate expirationDate) {
+        return new OfferFacetRow(id, active, domain, contractType, location, salary, expirationDate);
+    }
+}
@@ -0,0 +1,126 @@
+package org.keah.offerservice.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.keah.offerservice.cache.IdempotencyCache;
+import org.keah.offerservice.dto.ApplicationResponse;
+import org.keah.offerservice.entity.Offer;
+import org.keah.offerservice.repository.ApplicationRepository;
+import org.keah.offerservice.repository.OfferRepository;
+import org.keah.offerservice.service.OfferService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Sustained applies to a single offer, on H2 in MySQL mode. Every worker keeps applying as a
+ * new candidate for {@link #DURATION}; each application is retried once with the same
+ * Idempotency-Key (must replay) and every fourth one is double-submitted with a fresh key
+ * (must be a 409 from the unique key, not a second row).
+ * Run with {@code mvn test -Dtest.excluded-groups= -Dgroups=load}.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:apply-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "eureka.client.enabled=false",
+        "offers.search.index-dir=target/apply-load-index",
+        "offers.expiration.initial-delay=PT1H"
+})
+class ApplyLoadTest {
+
+    private static final int THREADS = 32;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+    private static final String RECRUITER = "recruiter@keah.org";
+
+    @Autowired
+    private OfferService offerService;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void sustainedAppliesOnOneOffer() throws Exception {
+        Long offerId = offerRepository.save(Offer.builder()
+                .title("Popular offer")
+                .company("Keah")
+                .publishedDate(LocalDate.now())
+                .recruiterEmail(RECRUITER)
+                .build()).getId();
+
+        LongAdder created = new LongAdder();
+        LongAdder replayed = new LongAdder();
+        LongAdder conflicts = new LongAdder();
+        long start = System.nanoTime();
+        long deadline = start + DURATION.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            workers.add(pool.submit(() -> {
+                for (int i = 0; System.nanoTime() < deadline; i++) {
+                    String candidate = "candidate-" + worker + "-" + i + "@keah.org";
+                    String key = UUID.randomUUID().toString();
+
+                    ApplicationResponse first = apply(candidate, offerId, key);
+                    created.increment();
+
+                    ApplicationResponse retry = apply(candidate, offerId, key);
+                    assertThat(retry.getId()).isEqualTo(first.getId());
+                    replayed.increment();
+
+                    if (i % 4 == 0) {
+                        ResponseStatusException duplicate = catchThrowableOfType(ResponseStatusException.class,
+                                () -> apply(candidate, offerId, UUID.randomUUID().toString()));
+                        assertThat(duplicate.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                        conflicts.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("POST /offers/{id}/apply, one offer, %d threads: %,d applies in %.1f s = %,.0f applies/s "
+                        + "(%,d idempotent replays, %,d duplicate 409s)%n",
+                THREADS, created.sum(), seconds, created.sum() / seconds, replayed.sum(), conflicts.sum());
+
+        assertThat(applicationRepository.count()).isEqualTo(created.sum());
+        assertThat(offerService.getRecruiterStats(RECRUITER).getPendingCount()).isEqualTo(created.sum());
+    }
+
+    private ApplicationResponse apply(String candidate, Long offerId, String idempotencyKey) {
+        return idempotencyCache.execute(candidate + "|" + offerId + "|" + idempotencyKey,
+                () -> offerService.applyToOffer(candidate, offerId));
+    }
+}
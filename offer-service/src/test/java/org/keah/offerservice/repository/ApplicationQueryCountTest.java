@@ -0,0 +1,94 @@
+package org.keah.offerservice.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.keah.offerservice.dto.ApplicationResponse;
+import org.keah.offerservice.entity.Application;
+import org.keah.offerservice.entity.Offer;
+import org.keah.offerservice.support.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements behind the application listing endpoints, so a lazy
+ * association sneaking back into a mapper shows up as a failing count.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ApplicationQueryCountTest {
+
+    private static final int OFFERS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private SqlStatementCounter statements;
+    private Long firstOfferId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < OFFERS; i++) {
+            Offer offer = Offer.builder()
+                    .title("Offer " + i)
+                    .company("Company " + i)
+                    .publishedDate(LocalDate.now())
+                    .recruiterEmail("recruiter@keah.org")
+                    .build();
+            entityManager.persist(offer);
+            if (firstOfferId == null) {
+                firstOfferId = offer.getId();
+            }
+            for (int c = 0; c < 3; c++) {
+                entityManager.persist(Application.builder()
+                        .candidateEmail("candidate" + c + "@keah.org")
+                        .offer(offer)
+                        .applicationDate(LocalDateTime.now())
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statements = new SqlStatementCounter(entityManager.getEntityManagerFactory());
+        statements.reset();
+    }
+
+    @Test
+    void myApplicationsIsOneStatement() {
+        List<ApplicationResponse> applications = applicationRepository.findResponsesByCandidateEmail("candidate0@keah.org");
+
+        assertThat(applications).hasSize(OFFERS);
+        assertThat(applications).allSatisfy(a -> assertThat(a.getOfferTitle()).startsWith("Offer "));
+        assertThat(statements.count()).isEqualTo(1);
+    }
+
+    @Test
+    void applicationsForOfferIsOneStatement() {
+        List<ApplicationResponse> applications = applicationRepository.findResponsesByOfferId(firstOfferId);
+
+        assertThat(applications).hasSize(3);
+        assertThat(applications).allSatisfy(a -> assertThat(a.getCompany()).isEqualTo("Company 0"));
+        assertThat(statements.count()).isEqualTo(1);
+    }
+
+    @Test
+    void entityListingWithLazyOfferIsNPlusOne() {
+        // The pre-projection code path, kept as a guard that the counter really sees lazy loads
+        applicationRepository.findByCandidateEmail("candidate0@keah.org")
+                .forEach(a -> a.getOffer().getTitle());
+
+        assertThat(statements.count()).isEqualTo(1 + OFFERS);
+    }
+}